@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game;
+
+import game.action.SchnapsenAction;
+import game.board.SchnapsenBoard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the main paths of the game engine, run them with {@code gradle jmh}.
+ * <p>
+ * The positions are reached by playing a fixed number of seeded random actions, so every run measures the same boards.
+ * The GC profiler is enabled by the task, its gc.alloc.rate.norm column shows the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SchnapsenBenchmark {
+
+    //Number of random actions played from the deal, 0 is the start of a round
+    @Param({"0", "6", "14"})
+    public int plies;
+
+    private Schnapsen game;
+    private SchnapsenBoard board;
+    private SchnapsenAction action;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random moves = new Random(42);
+        game = new Schnapsen("1;42", 2);
+        for (int i = 0; i < plies && !game.isGameOver(); i++) {
+            game = (Schnapsen) game.doAction(randomAction(game.getPossibleActions(), moves));
+        }
+        board = game.getBoard();
+        action = game.getPossibleActions().iterator().next();
+        random = new Random(7);
+    }
+
+    //Generates the actions on every call, the board caches the set returned by getPossibleActions
+    @Benchmark
+    public Set<SchnapsenAction> possibleActions() {
+        return SchnapsenAction.computePossibleActions(board);
+    }
+
+    @Benchmark
+    public Set<SchnapsenAction> cachedPossibleActions() {
+        return SchnapsenAction.getPossibleActions(board);
+    }
+
+    @Benchmark
+    public Object doAction() {
+        return game.doAction(action);
+    }
+
+    @Benchmark
+    public SchnapsenBoard copyBoard() {
+        return new SchnapsenBoard(board);
+    }
+
+    @Benchmark
+    public SchnapsenBoard hideInformation() {
+        SchnapsenBoard copy = new SchnapsenBoard(board);
+        copy.hideInformation(copy.getPlayerTurnId());
+        return copy;
+    }
+
+    @Benchmark
+    public Object getGame() {
+        return game.getGame(game.getCurrentPlayer());
+    }
+
+    /**
+     * Plays a whole Bummerl from a seeded deal with random actions, through the same interface the engine uses
+     */
+    @Benchmark
+    public double randomPlayout() {
+        Schnapsen playout = new Schnapsen("1;" + random.nextInt(), 2);
+        while (!playout.isGameOver()) {
+            playout = (Schnapsen) playout.doAction(randomAction(playout.getPossibleActions(), random));
+        }
+        return playout.getUtilityValue(0);
+    }
+
+    private static SchnapsenAction randomAction(Set<SchnapsenAction> actions, Random random) {
+        List<SchnapsenAction> list = new ArrayList<>(actions);
+        return list.get(random.nextInt(list.size()));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game;
+
+import at.ac.tuwien.ifs.sge.game.ActionRecord;
+import game.action.SchnapsenAction;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Persistent history of the action records of a game, every history is the last record plus the history before it.
+ * Appending a record creates one new node and shares everything else, so games created by doAction never copy their history.
+ * <p>
+ * The history is an unmodifiable list view. The latest records are reached by walking back from the end,
+ * a full iteration collects the records into an array once and reuses it afterwards.
+ */
+final class ActionHistory extends AbstractList<ActionRecord<SchnapsenAction>> {
+
+    //The history of a game without any actions
+    static final ActionHistory EMPTY = new ActionHistory(null, null);
+
+    private final ActionRecord<SchnapsenAction> record;
+    private final ActionHistory previous;
+    private final int size;
+
+    //Records in the order they were played, only created when the whole history is iterated
+    private volatile ActionRecord<SchnapsenAction>[] records;
+
+    private ActionHistory(ActionRecord<SchnapsenAction> record, ActionHistory previous) {
+        this.record = record;
+        this.previous = previous;
+        this.size = previous == null ? 0 : previous.size + 1;
+    }
+
+    /**
+     * Creates the history with the given record added at the end, this history stays unchanged
+     * @param record the record to be added
+     * @return the new history sharing all previous records with this one
+     */
+    ActionHistory append(ActionRecord<SchnapsenAction> record) {
+        if (record == null) {
+            throw new IllegalArgumentException("record cannot be null");
+        }
+        return new ActionHistory(record, this);
+    }
+
+    @Override
+    public ActionRecord<SchnapsenAction> get(int index) {
+        Objects.checkIndex(index, size);
+        ActionRecord<SchnapsenAction>[] cached = records;
+        if (cached != null) {
+            return cached[index];
+        }
+        ActionHistory node = this;
+        for (int i = size - 1; i > index; i--) {
+            node = node.previous;
+        }
+        return node.record;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<ActionRecord<SchnapsenAction>> iterator() {
+        return Arrays.asList(records()).iterator();
+    }
+
+    /**
+     * helper method to collect the records in the order they were played
+     * @return the cached array of records
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ActionRecord<SchnapsenAction>[] records() {
+        ActionRecord<SchnapsenAction>[] cached = records;
+        if (cached == null) {
+            cached = new ActionRecord[size];
+            ActionHistory node = this;
+            for (int i = size - 1; i >= 0; i--) {
+                cached[i] = node.record;
+                node = node.previous;
+            }
+            records = cached;
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game;
+
+import at.ac.tuwien.ifs.sge.game.ActionRecord;
+import game.action.SchnapsenAction;
+import game.board.SchnapsenBoard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Random access to the boards of a recorded game.
+ * <p>
+ * The game is replayed once when the replay is created, a snapshot of the board is kept every K plies
+ * and whenever a new round was dealt. Seeking to a ply copies the closest snapshot before it and applies
+ * the remaining actions with doAction, which are at most K - 1. Moving forward from the last sought ply
+ * continues from the last board instead, so stepping through a game applies one action per step.
+ * <p>
+ * The snapshots are plain board copies, since the state of a board is a handful of bitmasks and counters.
+ */
+public class GameReplay {
+
+    private final List<SchnapsenAction> actions;
+    private final int checkpointInterval;
+
+    //Plies of the snapshots in ascending order and the boards after those plies
+    private final int[] checkpointPlies;
+    private final SchnapsenBoard[] checkpoints;
+
+    //The board of the last sought ply, it is never handed out
+    private SchnapsenBoard current;
+    private int currentPly;
+
+    /**
+     * Replays the records once and keeps the snapshots
+     * @param initialBoard the board the game started with, it is not changed
+     * @param records the action records of the game
+     * @param checkpointInterval the number of plies K between two snapshots
+     */
+    public GameReplay(SchnapsenBoard initialBoard, List<ActionRecord<SchnapsenAction>> records, int checkpointInterval) {
+        if (initialBoard == null) {
+            throw new IllegalArgumentException("The passed board cannot be null");
+        }
+        if (records == null) {
+            throw new IllegalArgumentException("records cannot be null");
+        }
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("checkpointInterval must be at least 1");
+        }
+        this.checkpointInterval = checkpointInterval;
+        this.actions = new ArrayList<>(records.size());
+        for (ActionRecord<SchnapsenAction> record : records) {
+            actions.add(record.getAction());
+        }
+
+        List<SchnapsenBoard> boards = new ArrayList<>();
+        int[] plies = new int[actions.size() / checkpointInterval + 8];
+        SchnapsenBoard board = new SchnapsenBoard(initialBoard);
+        boards.add(new SchnapsenBoard(board));
+        for (int ply = 1; ply <= actions.size(); ply++) {
+            int roundIndex = board.getRoundIndex();
+            actions.get(ply - 1).doAction(board);
+            //a snapshot at the start of every round, as the deal is the one part of a round that can not be stepped over cheaply
+            if (ply % checkpointInterval == 0 || board.getRoundIndex() != roundIndex) {
+                if (boards.size() == plies.length) {
+                    plies = Arrays.copyOf(plies, 2 * plies.length);
+                }
+                plies[boards.size()] = ply;
+                boards.add(new SchnapsenBoard(board));
+            }
+        }
+        this.checkpointPlies = Arrays.copyOf(plies, boards.size());
+        this.checkpoints = boards.toArray(new SchnapsenBoard[0]);
+        this.current = new SchnapsenBoard(initialBoard);
+        this.currentPly = 0;
+    }
+
+    /**
+     * Replays a game from the engine or from doAction, which started with the given board
+     * @param initialBoard the board the game started with
+     * @param game the game at any later point
+     * @param checkpointInterval the number of plies K between two snapshots
+     */
+    public GameReplay(SchnapsenBoard initialBoard, Schnapsen game, int checkpointInterval) {
+        this(initialBoard, game == null ? null : game.getActionRecords(), checkpointInterval);
+    }
+
+    /**
+     * Returns the number of actions of the game
+     * @return the last ply that can be sought
+     */
+    public int size() {
+        return actions.size();
+    }
+
+    /**
+     * Returns the number of snapshots kept
+     * @return number of snapshots including the initial board
+     */
+    public int getCheckpointCount() {
+        return checkpoints.length;
+    }
+
+    /**
+     * Returns the board after the given number of actions
+     * @param ply the number of actions, 0 is the initial board
+     * @return a new board
+     */
+    public SchnapsenBoard boardAt(int ply) {
+        seek(ply);
+        return new SchnapsenBoard(current);
+    }
+
+    /**
+     * Returns the action that is taken at the given ply
+     * @param ply the number of actions taken before
+     * @return the action taken on the board of that ply
+     */
+    public SchnapsenAction actionAt(int ply) {
+        if (ply < 0 || ply >= actions.size()) {
+            throw new IllegalArgumentException("ply must be between 0 and " + (actions.size() - 1));
+        }
+        return actions.get(ply);
+    }
+
+    /**
+     * Moves the current board to the given ply, starting from the closest snapshot unless the current board is closer
+     * @param ply the ply to be reached
+     */
+    private void seek(int ply) {
+        if (ply < 0 || ply > actions.size()) {
+            throw new IllegalArgumentException("ply must be between 0 and " + actions.size());
+        }
+        int index = Arrays.binarySearch(checkpointPlies, ply);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (ply < currentPly || checkpointPlies[index] > currentPly) {
+            current = new SchnapsenBoard(checkpoints[index]);
+            currentPly = checkpointPlies[index];
+        }
+        while (currentPly < ply) {
+            actions.get(currentPly++).doAction(current);
+        }
+    }
+
+    /**
+     * Returns the number of plies between two regular snapshots
+     * @return the checkpoint interval K
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+}
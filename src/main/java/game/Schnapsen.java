@@ -16,7 +16,7 @@ import java.util.*;
 public class Schnapsen implements Game<SchnapsenAction, SchnapsenBoard> {
 
     SchnapsenBoard schnapsenBoard;
-    List<ActionRecord<SchnapsenAction>> actionRecords;
+    ActionHistory actionRecords;
 
     public Schnapsen() {
         this (new SchnapsenBoard(new Random()));
@@ -28,7 +28,7 @@ public class Schnapsen implements Game<SchnapsenAction, SchnapsenBoard> {
      */
     public Schnapsen(SchnapsenBoard schnapsenBoard) {
         this.schnapsenBoard = schnapsenBoard;
-        this.actionRecords = new ArrayList<>();
+        this.actionRecords = ActionHistory.EMPTY;
     }
 
     /**
@@ -44,14 +44,18 @@ public class Schnapsen implements Game<SchnapsenAction, SchnapsenBoard> {
      */
     public Schnapsen(String stringBoard, int numberOfPlayers)
     {
-        this.actionRecords = new ArrayList<>();
-        if(stringBoard != null && !stringBoard.isEmpty()) {
+        this.actionRecords = ActionHistory.EMPTY;
+        if(stringBoard != null && stringBoard.trim().indexOf(' ') >= 0) {
+            //a board in the notation of SchnapsenBoard.toNotation, an invalid notation is not silently replaced by a new game
+            this.schnapsenBoard = SchnapsenBoard.fromNotation(stringBoard);
+        }
+        else if(stringBoard != null && !stringBoard.isEmpty()) {
             try {
                 String[] params = stringBoard.split(";");
                 int bummerlCount = Integer.parseInt(params[0]);
                 if (params.length > 1) {
                     long seed = Long.parseLong(params[1]);
-                    this.schnapsenBoard = new SchnapsenBoard(new Random(seed), bummerlCount);
+                    this.schnapsenBoard = new SchnapsenBoard(seed, bummerlCount);
                 } else {
                     this.schnapsenBoard = new SchnapsenBoard(new Random(), bummerlCount);
                 }
@@ -74,12 +78,45 @@ public class Schnapsen implements Game<SchnapsenAction, SchnapsenBoard> {
      */
     public Schnapsen(Schnapsen game, boolean hideInformation)
     {
-        SchnapsenBoard newBoard = new SchnapsenBoard(game.schnapsenBoard);
-        if(hideInformation) {
-            newBoard.hideInformation(newBoard.getPlayerTurnId());
+        this.schnapsenBoard = hideInformation
+                ? view(game.schnapsenBoard, game.schnapsenBoard.getPlayerTurnId(), false)
+                : new SchnapsenBoard(game.schnapsenBoard);
+        //the history is persistent and can be shared instead of copied
+        this.actionRecords = game.actionRecords;
+    }
+
+    /**
+     * This constructor is used to create the view of one player of a given game, as it is returned by getGame.
+     * The information the player has no access to is hidden, the cards the player can deduce once the pile is empty are kept.
+     * Once the pile is empty the opponent's hand is the rest of the deck, so the view holds the complete board
+     * and agents can search it exactly instead of sampling deals.
+     * A view is one copy of the board, which only holds bitmasks and counters, and every hidden card is the shared PlaceHolder card
+     * @param game the game with full information
+     * @param playerId id of the player the view is created for
+     */
+    public Schnapsen(Schnapsen game, int playerId)
+    {
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
         }
-        this.schnapsenBoard = newBoard;
-        this.actionRecords = new ArrayList<>(game.actionRecords);
+        this.schnapsenBoard = view(game.schnapsenBoard, playerId, true);
+        this.actionRecords = game.actionRecords;
+    }
+
+    /**
+     * helper method to create the view of one player, the cards the opponent has shown stay visible
+     * @param board the board with full information, it is not changed
+     * @param playerId id of the player the view is created for
+     * @param revealKnownCards a boolean which decides if hidden cards that are known anyway are filled in again
+     * @return a new board
+     */
+    private static SchnapsenBoard view(SchnapsenBoard board, int playerId, boolean revealKnownCards) {
+        SchnapsenBoard view = new SchnapsenBoard(board);
+        view.hideInformation(playerId);
+        if (revealKnownCards) {
+            view.revealKnownCards();
+        }
+        return view;
     }
 
     @Override
@@ -127,13 +164,18 @@ public class Schnapsen implements Game<SchnapsenAction, SchnapsenBoard> {
         Schnapsen newBoard = new Schnapsen(this, false);
         int doingPlayer = newBoard.getCurrentPlayer();
         schnapsenAction.doAction(newBoard.schnapsenBoard);
-        newBoard.actionRecords.add(new ActionRecord<SchnapsenAction>(doingPlayer,schnapsenAction));
+        newBoard.actionRecords = actionRecords.append(new ActionRecord<SchnapsenAction>(doingPlayer,schnapsenAction));
         return newBoard;
     }
 
     @Override
     public SchnapsenAction determineNextAction() {
-        return getPossibleActions().iterator().next();
+        return SchnapsenAction.firstPossibleAction(schnapsenBoard);
+    }
+
+    @Override
+    public boolean isValidAction(SchnapsenAction schnapsenAction) {
+        return SchnapsenAction.isPossibleAction(schnapsenBoard, schnapsenAction);
     }
 
     @Override
@@ -148,7 +190,7 @@ public class Schnapsen implements Game<SchnapsenAction, SchnapsenBoard> {
 
     @Override
     public Game<SchnapsenAction, SchnapsenBoard> getGame(int i) {
-        return new Schnapsen(this, true);
+        return new Schnapsen(this, i);
     }
 
     @Override
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game;
+
+import at.ac.tuwien.ifs.sge.agent.GameAgent;
+import game.action.SchnapsenAction;
+import game.agent.IsmctsAgent;
+import game.agent.PimcAgent;
+import game.board.SchnapsenBoard;
+import game.log.GameLogWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays complete games of Schnapsen without the engine, one game per seed, and writes one CSV line per game.
+ * <p>
+ * The games are spread over the cores by a work-stealing pool and the lines are written as soon as a game is finished,
+ * so they are not ordered by seed. Every game is dealt by {@code new SchnapsenBoard(seed, bummerlMax)}
+ * and the random policy draws from a random object seeded by the game's seed, so these games can be replayed from their line.
+ * <p>
+ * Usage: {@code SelfPlay [-n games] [-s firstSeed] [-b bummerlMax] [-p0 policy] [-p1 policy] [-ms millis] [-t threads] [-o file] [-l log]}
+ * <br>
+ * Policies are random, first (the first possible action), pimc and ismcts, the agents get -ms milliseconds per action
+ * and use one thread each. Without -o the lines are written to the standard output.
+ * With -l the games are also appended to a binary game log, which can be replayed with GameLogReader.
+ */
+public final class SelfPlay {
+
+    public static final String CSV_HEADER = "seed,winner,player0BummerlAmount,player1BummerlAmount,rounds,tricks,schneider";
+
+    //Games in flight per thread, enough to keep every thread busy while the results are written
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+
+    private SelfPlay() {
+    }
+
+    /**
+     * Chooses the actions of one player during one game
+     */
+    interface Policy {
+        SchnapsenAction choose(SchnapsenBoard board);
+
+        default void close() {
+        }
+    }
+
+    /**
+     * Summary of one played game
+     */
+    static final class GameResult {
+        final long seed;
+        //id of the player who lost fewer Bummerl
+        final int winner;
+        final int player0BummerlAmount;
+        final int player1BummerlAmount;
+        final int rounds;
+        //tricks played over all rounds
+        final int tricks;
+        //true if a Bummerl was lost without scoring a single point in it
+        final boolean schneider;
+        //index of every action in the order of getPossibleActions, as stored by the game log
+        final byte[] actionIndices;
+        final int actionCount;
+
+        GameResult(long seed, int winner, int player0BummerlAmount, int player1BummerlAmount, int rounds, int tricks, boolean schneider,
+                   byte[] actionIndices, int actionCount) {
+            this.seed = seed;
+            this.winner = winner;
+            this.player0BummerlAmount = player0BummerlAmount;
+            this.player1BummerlAmount = player1BummerlAmount;
+            this.rounds = rounds;
+            this.tricks = tricks;
+            this.schneider = schneider;
+            this.actionIndices = actionIndices;
+            this.actionCount = actionCount;
+        }
+
+        String toCsv() {
+            return seed + "," + winner + "," + player0BummerlAmount + "," + player1BummerlAmount + ","
+                    + rounds + "," + tricks + "," + schneider;
+        }
+    }
+
+    /**
+     * Plays one game to its end
+     * @param seed the seed of the deal and of the policies
+     * @param bummerlMax the number of Bummerl the game lasts
+     * @param policy0 name of the policy of player 0
+     * @param policy1 name of the policy of player 1
+     * @param millis time per action of the agent policies
+     * @return the summary of the game
+     */
+    static GameResult play(long seed, int bummerlMax, String policy0, String policy1, long millis) {
+        SchnapsenBoard board = new SchnapsenBoard(seed, bummerlMax);
+        Policy[] policies = {createPolicy(policy0, 0, seed, millis), createPolicy(policy1, 1, seed, millis)};
+        int rounds = 1;
+        int tricks = 0;
+        boolean schneider = false;
+        byte[] actionIndices = new byte[256];
+        int actionCount = 0;
+        try {
+            while (!board.isGameOver()) {
+                int bummerl0 = board.getPlayer0Bummerl();
+                int bummerl1 = board.getPlayer1Bummerl();
+                int amount0 = board.getPlayer0BummerlAmount();
+                int amount1 = board.getPlayer1BummerlAmount();
+                boolean following = board.getLeadingCard() != null;
+
+                SchnapsenAction action = policies[board.getPlayerTurnId()].choose(board);
+                if (actionCount == actionIndices.length) {
+                    actionIndices = Arrays.copyOf(actionIndices, 2 * actionCount);
+                }
+                actionIndices[actionCount++] = (byte) GameLogWriter.indexOf(board, action);
+                boolean playsCard = action.getOrdinal() < SchnapsenAction.MARRIAGE;
+                action.doAction(board);
+
+                if (following && playsCard) {
+                    tricks++;
+                }
+                int lostAmount = board.getPlayer0BummerlAmount() - amount0 + board.getPlayer1BummerlAmount() - amount1;
+                schneider |= lostAmount == 2;
+                if (!board.isGameOver() && (lostAmount != 0
+                        || board.getPlayer0Bummerl() != bummerl0 || board.getPlayer1Bummerl() != bummerl1)) {
+                    rounds++;
+                }
+            }
+        } finally {
+            policies[0].close();
+            policies[1].close();
+        }
+        int amount0 = board.getPlayer0BummerlAmount();
+        int amount1 = board.getPlayer1BummerlAmount();
+        return new GameResult(seed, amount0 < amount1 ? 0 : 1, amount0, amount1, rounds, tricks, schneider, actionIndices, actionCount);
+    }
+
+    /**
+     * Creates a policy by its name
+     * @param name random, first, pimc or ismcts
+     * @param playerId id of the player using the policy
+     * @param seed seed of the game
+     * @param millis time per action of the agents
+     * @return a new policy for one game
+     */
+    static Policy createPolicy(String name, int playerId, long seed, long millis) {
+        Random random = new Random(seed * 31 + playerId);
+        switch (name) {
+            case "random":
+                return board -> {
+                    Set<SchnapsenAction> actions = SchnapsenAction.getPossibleActions(board);
+                    Iterator<SchnapsenAction> iterator = actions.iterator();
+                    for (int i = random.nextInt(actions.size()); i > 0; i--) {
+                        iterator.next();
+                    }
+                    return iterator.next();
+                };
+            case "first":
+                return SchnapsenAction::firstPossibleAction;
+            case "pimc":
+                return agentPolicy(new PimcAgent(null, 1), playerId, millis);
+            case "ismcts":
+                return agentPolicy(new IsmctsAgent(null, 1), playerId, millis);
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + name);
+        }
+    }
+
+    /**
+     * Wraps an agent, it is given the same hidden view the engine would give it
+     */
+    private static Policy agentPolicy(GameAgent<Schnapsen, SchnapsenAction> agent, int playerId, long millis) {
+        agent.setUp(2, playerId);
+        return new Policy() {
+            @Override
+            public SchnapsenAction choose(SchnapsenBoard board) {
+                Schnapsen view = new Schnapsen(new Schnapsen(board), playerId);
+                return agent.computeNextAction(view, millis, TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public void close() {
+                agent.tearDown();
+                agent.destroy();
+            }
+        };
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int games = 1000;
+        long firstSeed = 0;
+        int bummerlMax = 1;
+        String policy0 = "random";
+        String policy1 = "random";
+        long millis = 10;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String output = null;
+        String log = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            if (value == null) {
+                throw new IllegalArgumentException("Missing value of " + args[i]);
+            }
+            switch (args[i++]) {
+                case "-n":
+                    games = Integer.parseInt(value);
+                    break;
+                case "-s":
+                    firstSeed = Long.parseLong(value);
+                    break;
+                case "-b":
+                    bummerlMax = Integer.parseInt(value);
+                    break;
+                case "-p0":
+                    policy0 = value;
+                    break;
+                case "-p1":
+                    policy1 = value;
+                    break;
+                case "-ms":
+                    millis = Long.parseLong(value);
+                    break;
+                case "-t":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "-o":
+                    output = value;
+                    break;
+                case "-l":
+                    log = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i - 1]);
+            }
+        }
+        //fail on unknown policies before any game is started
+        createPolicy(policy0, 0, 0, millis).close();
+        createPolicy(policy1, 1, 0, millis).close();
+
+        Writer writer = output == null
+                ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8);
+        ExecutorService executor = Executors.newWorkStealingPool(threads);
+        try (PrintWriter out = new PrintWriter(new BufferedWriter(writer));
+             GameLogWriter logWriter = log == null ? null : new GameLogWriter(Paths.get(log))) {
+            CompletionService<GameResult> results = new ExecutorCompletionService<>(executor);
+            int bummerl = bummerlMax;
+            String p0 = policy0;
+            String p1 = policy1;
+            long ms = millis;
+            //only a window of games is in flight, the next game is submitted when a result is taken,
+            //so finished results do not pile up in memory on long runs
+            int window = (int) Math.min(games, IN_FLIGHT_PER_THREAD * (long) threads);
+            int submitted = 0;
+            for (; submitted < window; submitted++) {
+                long seed = firstSeed + submitted;
+                results.submit(() -> play(seed, bummerl, p0, p1, ms));
+            }
+
+            long start = System.nanoTime();
+            out.println(CSV_HEADER);
+            for (int i = 0; i < games; i++) {
+                GameResult result = results.take().get();
+                if (submitted < games) {
+                    long seed = firstSeed + submitted++;
+                    results.submit(() -> play(seed, bummerl, p0, p1, ms));
+                }
+                out.println(result.toCsv());
+                if (logWriter != null) {
+                    logWriter.write(result.seed, bummerlMax, result.actionIndices, result.actionCount);
+                }
+            }
+            out.flush();
+            long nanos = System.nanoTime() - start;
+            System.err.printf("%d games in %d ms, %.0f games per hour%n", games, nanos / 1_000_000, games * 3.6e12 / nanos);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A game failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -29,131 +29,190 @@ public class SchnapsenAction implements Comparable<SchnapsenAction> {
     //States the action in a readable manner
     private String actionMessage;
 
+    //Tracks if the cards of the action are of the trump suit, this is only known for actions of the precomputed universe and is used for ordering
+    private boolean trump;
+
+    //Position of the action in the compareTo order of its universe, only known for actions of the precomputed universe
+    private int rank = -1;
+
+    //Every distinct action of a player has a stable ordinal: playing one of the 20 cards or a PlaceHolder card (0-20),
+    //declaring the marriage of a suit (21-24), exchanging the trump card (25) and closing the talon (26)
+    public static final int ACTION_COUNT = 27;
+    public static final int MARRIAGE = 21;
+    public static final int EXCHANGE = 25;
+    public static final int CLOSE = 26;
+
+    //The precomputed actions for every trump suit and player, indexed by ordinal and by rank
+    private static final SchnapsenAction[][][] ACTIONS = createActions();
+    private static final SchnapsenAction[][][] RANKED_ACTIONS = rankActions(ACTIONS);
+
+    /**
+     * Returns the actions the current player of the board may take. The set is computed once per state of the board
+     * and kept by the board until it is changed, so repeated queries of the same position are free
+     * @param board the board the actions are generated for
+     * @return an unmodifiable set of the possible actions, empty if the game is over
+     */
     public static Set<SchnapsenAction> getPossibleActions(SchnapsenBoard board) {
-        Set<SchnapsenAction> possibleActions = new TreeSet<>();
-        int playerId = board.getPlayerTurnId();
+        return board.getPossibleActions();
+    }
 
+    /**
+     * Computes the actions the current player of the board may take without the cache of the board.
+     * The actions are taken from the precomputed universe and the returned set is backed by a bitmask, iterating in the order of compareTo
+     * @param board the board the actions are generated for
+     * @return an unmodifiable set of the possible actions, empty if the game is over
+     */
+    public static Set<SchnapsenAction> computePossibleActions(SchnapsenBoard board) {
         //return empty set if game is over (as stated by the engine)
-        if(board.isGameOver())
-        {
-            return possibleActions;
+        if (board.isGameOver()) {
+            return Collections.emptySet();
         }
+        int trumpSuit = board.getTrumpSuit().ordinal();
+        int playerId = board.getPlayerTurnId();
+        return new ActionSet(ACTIONS[trumpSuit][playerId], RANKED_ACTIONS[trumpSuit][playerId], getPossibleActionMask(board));
+    }
 
-        List<PlayingCard> possibleMarriageCards = new ArrayList<>();
-        List<PlayingCard> playerCards;
-        PlayingCard leadingCard = board.getLeadingCard();
+    /**
+     * Returns the shared action of the precomputed universe
+     * @param trumpSuit the trump suit of the round, the ordering of the actions depends on it
+     * @param playerId id of player who wants to take the action
+     * @param ordinal the ordinal of the action
+     * @return the action with the given ordinal
+     */
+    public static SchnapsenAction of(SchnapsenBoard.CardSuit trumpSuit, int playerId, int ordinal) {
+        if (trumpSuit == null) {
+            throw new IllegalArgumentException("trumpSuit cannot be null");
+        }
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+        if (ordinal < 0 || ordinal >= ACTION_COUNT) {
+            throw new IllegalArgumentException("ordinal must be between 0 and " + (ACTION_COUNT - 1));
+        }
+        return ACTIONS[trumpSuit.ordinal()][playerId][ordinal];
+    }
 
-        if (playerId == 0) {
-            playerCards = board.getPlayer0Cards();
+    /**
+     * Checks if the current player of the board may take the action. Only the rule of the action is tested:
+     * the follow suit and must take trick rules for playing a card, holding both cards of a marriage while leading,
+     * and the state of the talon for exchanging and closing, so no actions are generated
+     * @param board the board the action would be taken on
+     * @param action the action to be checked, can be null
+     * @return true if the action is one of the possible actions of the board
+     */
+    public static boolean isPossibleAction(SchnapsenBoard board, SchnapsenAction action) {
+        if (action == null || board.isGameOver() || action.playerId != board.getPlayerTurnId()) {
+            return false;
+        }
+        int ordinal = action.getOrdinal();
+        boolean possible;
+        if (ordinal < MARRIAGE) {
+            possible = (board.getPlayableCards() & 1 << ordinal) != 0;
+        } else if (ordinal < EXCHANGE) {
+            possible = (board.getDeclarableMarriages() & 1 << (ordinal - MARRIAGE)) != 0;
+        } else if (ordinal == EXCHANGE) {
+            possible = board.canExchangeTrumpCard();
         } else {
-            playerCards = board.getPlayer1Cards();
+            possible = board.canCloseTalon();
         }
+        //actions built by hand have to match the action of the universe, as in the set of possible actions
+        SchnapsenAction interned = ACTIONS[board.getTrumpSuit().ordinal()][action.playerId][ordinal];
+        return possible && (interned == action || interned.equals(action));
+    }
 
+    /**
+     * Returns the first possible action in the order of compareTo, which is the first action of getPossibleActions,
+     * without creating the set of possible actions
+     * @param board the board the action is taken on
+     * @return the first possible action, null if the game is over
+     */
+    public static SchnapsenAction firstPossibleAction(SchnapsenBoard board) {
+        if (board.isGameOver()) {
+            return null;
+        }
+        int mask = getPossibleActionMask(board);
+        if (mask == 0) {
+            return null;
+        }
+        return RANKED_ACTIONS[board.getTrumpSuit().ordinal()][board.getPlayerTurnId()][Integer.numberOfTrailingZeros(mask)];
+    }
 
-        //checking if leading player
-        if (leadingCard == null) {
-
-            //checking if marriage was already declared, if so player may only play one of the marriage partners
-            PlayingCard marriageCard  = board.getMarriageCardDeclared();
-            if (marriageCard != null) {
-                if(playerCards.contains(marriageCard)) {
-                    if(playerCards.contains(marriageCard.getPossibleMarriage())) {
-                        possibleActions.add(new SchnapsenAction(playerId, marriageCard, "Play " + marriageCard.getCardName()));
-                        possibleActions.add(new SchnapsenAction(playerId, marriageCard.getPossibleMarriage(), "Play " + marriageCard.getPossibleMarriage().getCardName()));
-                    }
-                    else {
-                        throw new IllegalStateException("Marriage cards not found after declaring marriage");
-                    }
-                } else {
-                    throw new IllegalStateException("Marriage card not found after declaring marriage");
-                }
-            } else {
-
-
-                for (PlayingCard card : playerCards) {
-                    //if player is leading they may exchange trumps if they have the correct Jack
-                    if (!board.isTalonClosed() && !board.playingCardPileIsEmpty()) {
-                        if (card.isTrumpSuit() && card.getCardValue() == 2) {
-                            //exchange trump card Action
-                            possibleActions.add(new SchnapsenAction(playerId, true, "Exchange " + card.getCardName() + " with trump card"));
-                        }
-                    }
-
-                    //keep track of possible Marriage cards for the player
-                    if (card.getPossibleMarriage() != null) {
-                        possibleMarriageCards.add(card.getPossibleMarriage());
-                    }
-
-                    //if both cards are present we can add the marriage action
-                    if (possibleMarriageCards.contains(card)) {
-                        //marriage Action
-                        possibleActions.add(new SchnapsenAction(playerId, card, card.getPossibleMarriage(), "Marriage of " + card.getCardName() + " + " + card.getPossibleMarriage().getCardName()));
-                        possibleMarriageCards.remove(card);
-                    }
+    /**
+     * helper method to collect the possible actions of the board as a bitmask over the ranks of the actions
+     * @param board the board the actions are generated for
+     * @return bitmask of the ranks of the possible actions
+     */
+    private static int getPossibleActionMask(SchnapsenBoard board) {
+        SchnapsenAction[] actions = ACTIONS[board.getTrumpSuit().ordinal()][board.getPlayerTurnId()];
+        int mask = 0;
 
-                    //as leading player any card can be played as an action
-                    possibleActions.add(new SchnapsenAction(playerId, card, "Play " + card.getCardName()));
-                }
-                //close talon Action only if not closed already and pile is not empty yet
-                if(!board.isTalonClosed() &&  !board.playingCardPileIsEmpty()) {
-                    possibleActions.add(new SchnapsenAction(playerId, false, "Close the talon"));
-                }
-            }
-        } else {
-            //when following player the available actions change, if the talon is closed or the draw pile is empty
-            if (board.isTalonClosed() || board.playingCardPileIsEmpty()) {
-
-                //keep track of trump cards and same suit cards
-                List<PlayingCard> trumps = new ArrayList<>();
-                List<PlayingCard> suits = new ArrayList<>();
-
-                //We check if there are any cards that match the suit of the leading card or the trump suit
-                for(PlayingCard card : playerCards) {
-
-                    //1. Rule: suit following and trick taking rule, these actions can be added here already
-                    if (card.getSuit() == leadingCard.getSuit()) {
-                        suits.add(card);
-                        if (card.getCardValue() > leadingCard.getCardValue()) {
-                            possibleActions.add(new SchnapsenAction(playerId, card, "Play " + card.getCardName()));
-                        }
-                    }
+        for (int cards = board.getPlayableCards(); cards != 0; cards &= cards - 1) {
+            mask |= 1 << actions[Integer.numberOfTrailingZeros(cards)].rank;
+        }
+        for (int suits = board.getDeclarableMarriages(); suits != 0; suits &= suits - 1) {
+            mask |= 1 << actions[MARRIAGE + Integer.numberOfTrailingZeros(suits)].rank;
+        }
+        if (board.canExchangeTrumpCard()) {
+            mask |= 1 << actions[EXCHANGE].rank;
+        }
+        if (board.canCloseTalon()) {
+            mask |= 1 << actions[CLOSE].rank;
+        }
+        return mask;
+    }
 
-                    if(card.isTrumpSuit()) {
-                        trumps.add(card);
-                    }
+    /**
+     * Creating every distinct action once for each trump suit and player
+     * @return the actions indexed by trump suit, player and ordinal
+     */
+    private static SchnapsenAction[][][] createActions() {
+        SchnapsenBoard.CardName[] names = SchnapsenBoard.CardName.values();
+        SchnapsenAction[][][] actions = new SchnapsenAction[4][2][ACTION_COUNT];
+
+        for (int trumpSuit = 0; trumpSuit < 4; trumpSuit++) {
+            for (int playerId = 0; playerId < 2; playerId++) {
+                SchnapsenAction[] universe = actions[trumpSuit][playerId];
+
+                //play card actions, including the PlaceHolder card, which is never a trump
+                for (int card = 0; card < MARRIAGE; card++) {
+                    PlayingCard playCard = PlayingCard.of(names[card]);
+                    universe[card] = new SchnapsenAction(playerId, playCard, "Play " + playCard.getCardName());
+                    universe[card].trump = card != MARRIAGE - 1 && playCard.getSuit().ordinal() == trumpSuit;
                 }
 
-                //2. Rule: suit following rule, if no card was bigger than the one played, we still have to follow suit
-                if (possibleActions.isEmpty()) {
-                    for(PlayingCard suitCard : suits) {
-                        possibleActions.add(new SchnapsenAction(playerId, suitCard, "Play " + suitCard.getCardName()));
-                    }
+                //marriage actions, King and Queen are the third and second card of a suit
+                for (int suit = 0; suit < 4; suit++) {
+                    PlayingCard king = PlayingCard.of(names[suit * 5 + 2]);
+                    PlayingCard queen = PlayingCard.of(names[suit * 5 + 1]);
+                    universe[MARRIAGE + suit] = new SchnapsenAction(playerId, king, queen, "Marriage of " + king.getCardName() + " + " + queen.getCardName());
+                    universe[MARRIAGE + suit].trump = suit == trumpSuit;
                 }
 
-                //3. Rule: trick taking rule if having trump card, if no card matched the suit we must play any trump card to take the trick
-                if (possibleActions.isEmpty()) {
-                    for(PlayingCard trumpCard : trumps) {
-                        possibleActions.add(new SchnapsenAction(playerId, trumpCard, "Play " + trumpCard.getCardName()));
-                    }
-                }
+                universe[EXCHANGE] = new SchnapsenAction(playerId, true, "Exchange " + names[trumpSuit * 5] + " with trump card");
+                universe[CLOSE] = new SchnapsenAction(playerId, false, "Close the talon");
+            }
+        }
+        return actions;
+    }
 
-                //4. Rule: if no rule is taking place, every card can be played as a following card
-                if (possibleActions.isEmpty()) {
-                    for(PlayingCard card: playerCards) {
-                        possibleActions.add(new SchnapsenAction(playerId, card, "Play " + card.getCardName()));
-                    }
-                }
-            } else {
-                //talon is not closed and pile is not empty, every card can be played
-                for(PlayingCard card: playerCards) {
-                    possibleActions.add(new SchnapsenAction(playerId, card, "Play " + card.getCardName()));
+    /**
+     * Sorting the actions of the universe by compareTo and storing the position of each action as its rank
+     * @param actions the actions indexed by trump suit, player and ordinal
+     * @return the actions indexed by trump suit, player and rank
+     */
+    private static SchnapsenAction[][][] rankActions(SchnapsenAction[][][] actions) {
+        SchnapsenAction[][][] ranked = new SchnapsenAction[actions.length][][];
+        for (int trumpSuit = 0; trumpSuit < actions.length; trumpSuit++) {
+            ranked[trumpSuit] = new SchnapsenAction[2][];
+            for (int playerId = 0; playerId < 2; playerId++) {
+                ranked[trumpSuit][playerId] = actions[trumpSuit][playerId].clone();
+                Arrays.sort(ranked[trumpSuit][playerId]);
+                for (int rank = 0; rank < ACTION_COUNT; rank++) {
+                    ranked[trumpSuit][playerId][rank].rank = rank;
                 }
             }
-
-
         }
-
-        return possibleActions;
+        return ranked;
     }
 
     /**
@@ -243,6 +302,28 @@ public class SchnapsenAction implements Comparable<SchnapsenAction> {
         }
     }
 
+    /**
+     * Takes the action without checking the rules again, for actions taken from getPossibleActions of the same board
+     * @param doBoard the board the action is a possible action of
+     */
+    public void doActionTrusted(SchnapsenBoard doBoard) {
+        doBoard.doTrustedAction(getOrdinal());
+    }
+
+    /**
+     * Returns the stable ordinal of the action, which is the same for equal actions of any trump suit
+     * @return the ordinal between 0 and ACTION_COUNT - 1
+     */
+    public int getOrdinal() {
+        if (playCard != null) {
+            return playCard.getCardName().ordinal();
+        }
+        if (marriage1 != null) {
+            return MARRIAGE + marriage1.getSuit().ordinal();
+        }
+        return talonOrExchange ? EXCHANGE : CLOSE;
+    }
+
     @Override
     public String toString() {
         return actionMessage;
@@ -262,14 +343,15 @@ public class SchnapsenAction implements Comparable<SchnapsenAction> {
                     playerId == other.playerId &&
                     Objects.equals(talonOrExchange, other.talonOrExchange) &&
                     Objects.equals(playCard, other.playCard) &&
-                    Objects.equals(marriage1, other.marriage1) &&
-                    Objects.equals(marriage2, other.marriage2);
+                    //the two cards of a marriage can be given in either order
+                    (Objects.equals(marriage1, other.marriage1) && Objects.equals(marriage2, other.marriage2)
+                            || Objects.equals(marriage1, other.marriage2) && Objects.equals(marriage2, other.marriage1));
         }
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(playerId, talonOrExchange, playCard, marriage1, marriage2);
+        return 31 * Objects.hash(playerId, talonOrExchange, playCard) + Objects.hashCode(marriage1) + Objects.hashCode(marriage2);
     }
 
     /**
@@ -295,9 +377,9 @@ public class SchnapsenAction implements Comparable<SchnapsenAction> {
         if(myPlayingCard != null && otherPlayingCard != null) {
 
             //priority for trump cards
-            if(myPlayingCard.isTrumpSuit() !=  otherPlayingCard.isTrumpSuit())
+            if(this.trump !=  o.trump)
             {
-                if(myPlayingCard.isTrumpSuit())
+                if(this.trump)
                 {
                     return -1;
                 }
@@ -319,8 +401,8 @@ public class SchnapsenAction implements Comparable<SchnapsenAction> {
 
         //Compares marriages to each other prioritising marriages of the trump suit
         if(this.marriage1 != null && o.marriage1 != null) {
-            boolean myMarriageTrump = this.marriage1.isTrumpSuit();
-            boolean otherMarriageTrump = o.marriage1.isTrumpSuit();
+            boolean myMarriageTrump = this.trump;
+            boolean otherMarriageTrump = o.trump;
             if (myMarriageTrump != otherMarriageTrump) {
                 if(myMarriageTrump) {
                     return -1;
@@ -350,4 +432,55 @@ public class SchnapsenAction implements Comparable<SchnapsenAction> {
             }
             return 4; // Fallback
     }
+
+    /**
+     * Unmodifiable set of actions of one universe, backed by a bitmask over the ranks of the actions
+     */
+    private static final class ActionSet extends AbstractSet<SchnapsenAction> {
+        private final SchnapsenAction[] actions;
+        private final SchnapsenAction[] rankedActions;
+        private final int mask;
+
+        private ActionSet(SchnapsenAction[] actions, SchnapsenAction[] rankedActions, int mask) {
+            this.actions = actions;
+            this.rankedActions = rankedActions;
+            this.mask = mask;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof SchnapsenAction action) || action.playerId != actions[0].playerId) {
+                return false;
+            }
+            SchnapsenAction interned = actions[action.getOrdinal()];
+            return (mask & 1 << interned.rank) != 0 && interned.equals(action);
+        }
+
+        @Override
+        public Iterator<SchnapsenAction> iterator() {
+            return new Iterator<>() {
+                private int remaining = mask;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining != 0;
+                }
+
+                @Override
+                public SchnapsenAction next() {
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    SchnapsenAction action = rankedActions[Integer.numberOfTrailingZeros(remaining)];
+                    remaining &= remaining - 1;
+                    return action;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return Integer.bitCount(mask);
+        }
+    }
 }
@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.agent;
+
+import at.ac.tuwien.ifs.sge.agent.AbstractGameAgent;
+import at.ac.tuwien.ifs.sge.agent.GameAgent;
+import at.ac.tuwien.ifs.sge.engine.Logger;
+import game.Schnapsen;
+import game.action.SchnapsenAction;
+import game.board.DeterminizationSampler;
+import game.board.EndgameSolver;
+import game.board.SchnapsenBoard;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Information Set Monte Carlo Tree Search agent.
+ * <p>
+ * Every iteration samples a deal that is consistent with the agent's view and walks down one shared tree,
+ * whose nodes are the information sets of the agent: the children of a node are keyed by the ordinal of the action,
+ * which both players can observe. Only the children whose actions are possible in the sampled deal are considered,
+ * and their availability is counted for the exploration term. The round is played out with RoundPlayout.
+ * <p>
+ * Several worker threads search the same tree without locks. Children are added with compare-and-set,
+ * and the visit and value counters are updated atomically. A virtual loss is added while a thread is below a node,
+ * so the other threads are steered to different parts of the tree.
+ */
+public class IsmctsAgent extends AbstractGameAgent<Schnapsen, SchnapsenAction> implements GameAgent<Schnapsen, SchnapsenAction> {
+
+    //Exploration constant of the UCB formula, the values are scaled to Bummerl points between -1 and 1
+    private static final double EXPLORATION = 0.7;
+    private static final double MAX_POINTS = 3;
+
+    //Points counted as lost while a thread is below a node
+    private static final long VIRTUAL_LOSS = 3;
+
+    //Numbers the worker threads of all agents
+    private static final AtomicInteger WORKER_IDS = new AtomicInteger();
+
+    private final int threads;
+    //Created by setUp and shut down by tearDown
+    private ExecutorService executor;
+
+    //Playouts of the last search and the time they took, useful for tuning the number of threads
+    private long lastPlayoutCount;
+    private long lastSearchNanos;
+
+    //Solves views without hidden information, the table is kept between actions
+    private final EndgameSolver solver = new EndgameSolver();
+
+    public IsmctsAgent() {
+        this(null);
+    }
+
+    /**
+     * Constructor called by the engine, the agent uses all available cores
+     * @param log the logger of the engine
+     */
+    public IsmctsAgent(Logger log) {
+        this(log, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an agent using the given number of worker threads
+     * @param log the logger of the engine, can be null
+     * @param threads number of threads searching the tree
+     */
+    public IsmctsAgent(Logger log, int threads) {
+        super(log);
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        this.threads = threads;
+    }
+
+    @Override
+    public void setUp(int numberOfPlayers, int playerId) {
+        super.setUp(numberOfPlayers, playerId);
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(threads, IsmctsAgent::newWorkerThread);
+        }
+    }
+
+    /**
+     * Creates a named daemon thread for the worker pool, so an agent that is never torn down does not keep the JVM alive
+     * @param task the task of the pool
+     * @return a new thread
+     */
+    private static Thread newWorkerThread(Runnable task) {
+        Thread thread = new Thread(task, "ismcts-worker-" + WORKER_IDS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @Override
+    public SchnapsenAction computeNextAction(Schnapsen game, long computationTime, TimeUnit timeUnit) {
+        super.setTimers(computationTime, timeUnit);
+        if (executor == null) {
+            throw new IllegalStateException("setUp has to be called before computeNextAction");
+        }
+
+        List<SchnapsenAction> actions = new ArrayList<>(game.getPossibleActions());
+        if (actions.size() == 1) {
+            return actions.get(0);
+        }
+
+        SchnapsenBoard view = game.getBoard();
+        //a view without hidden information is the only deal consistent with it, so it is solved instead of sampled
+        if (EndgameSolver.canSolve(view)) {
+            return solver.bestAction(view);
+        }
+
+        Node root = new Node(1 - view.getPlayerTurnId());
+        long deadline = START_TIME + TIMEOUT;
+
+        List<Future<Long>> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            Worker worker = new Worker(root, view, deadline, random.nextLong());
+            workers.add(executor.submit(worker::search));
+        }
+        long playouts = 0;
+        try {
+            for (Future<Long> worker : workers) {
+                playouts += worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("ISMCTS worker failed", e.getCause());
+        }
+        lastPlayoutCount = playouts;
+        lastSearchNanos = nanosElapsed();
+
+        //the most visited action is the most robust choice
+        SchnapsenAction best = actions.get(0);
+        long bestVisits = -1;
+        for (SchnapsenAction action : actions) {
+            Node child = root.children.get(action.getOrdinal());
+            long visits = child == null ? 0 : child.visits;
+            if (visits > bestVisits) {
+                best = action;
+                bestVisits = visits;
+            }
+        }
+        if (log != null) {
+            log.debf("ISMCTS: %d playouts with %d threads, %.0f playouts per second per thread",
+                    playouts, threads, getPlayoutsPerSecondPerThread());
+        }
+        return best;
+    }
+
+    /**
+     * Returns the number of playouts of the last search
+     * @return number of playouts
+     */
+    public long getLastPlayoutCount() {
+        return lastPlayoutCount;
+    }
+
+    /**
+     * Returns the playouts per second of the last search divided by the number of threads,
+     * this can be compared to a run with one thread to see how well the search scales
+     * @return playouts per second per thread
+     */
+    public double getPlayoutsPerSecondPerThread() {
+        return lastSearchNanos == 0 ? 0 : lastPlayoutCount * 1e9 / lastSearchNanos / threads;
+    }
+
+    @Override
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        tearDown();
+    }
+
+    /**
+     * Node of the shared tree, the statistics are from the view of the player who took the action leading to the node
+     */
+    private static final class Node {
+        private static final VarHandle VISITS;
+        private static final VarHandle VALUE;
+        private static final VarHandle AVAILABILITY;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                VISITS = lookup.findVarHandle(Node.class, "visits", long.class);
+                VALUE = lookup.findVarHandle(Node.class, "value", long.class);
+                AVAILABILITY = lookup.findVarHandle(Node.class, "availability", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final int playerId;
+        private final AtomicReferenceArray<Node> children = new AtomicReferenceArray<>(SchnapsenAction.ACTION_COUNT);
+
+        //summed Bummerl points, visits and the number of times the action was possible when its parent was visited
+        private volatile long visits;
+        private volatile long value;
+        private volatile long availability;
+
+        private Node(int playerId) {
+            this.playerId = playerId;
+        }
+
+        /**
+         * Returns the child of the action, it is added if no other thread did so already
+         */
+        private Node child(int ordinal, int playerId) {
+            Node child = children.get(ordinal);
+            if (child == null) {
+                Node created = new Node(playerId);
+                child = children.compareAndExchange(ordinal, null, created);
+                if (child == null) {
+                    child = created;
+                }
+            }
+            return child;
+        }
+
+        private void addVirtualLoss() {
+            VISITS.getAndAdd(this, 1L);
+            VALUE.getAndAdd(this, -VIRTUAL_LOSS);
+        }
+
+        private void update(int points) {
+            VALUE.getAndAdd(this, points + VIRTUAL_LOSS);
+        }
+
+        private void makeAvailable() {
+            AVAILABILITY.getAndAdd(this, 1L);
+        }
+
+        private double ucb() {
+            long n = visits;
+            return (double) value / n / MAX_POINTS + EXPLORATION * Math.sqrt(Math.log(availability) / n);
+        }
+    }
+
+    /**
+     * Searches the shared tree with its own sampler, playout and random object
+     */
+    private static final class Worker {
+        private final Node root;
+        private final DeterminizationSampler sampler;
+        private final RoundPlayout playout;
+        private final Random random;
+        private final long deadline;
+        private final Node[] path = new Node[64];
+
+        private Worker(Node root, SchnapsenBoard view, long deadline, long seed) {
+            this.root = root;
+            this.sampler = new DeterminizationSampler(view, view.getPlayerTurnId());
+            this.random = new Random(seed);
+            this.playout = new RoundPlayout(random);
+            this.deadline = deadline;
+        }
+
+        private long search() {
+            long playouts = 0;
+            while (System.nanoTime() - deadline < 0) {
+                iterate(sampler.sample(random));
+                playouts++;
+            }
+            return playouts;
+        }
+
+        /**
+         * One iteration: selection and expansion on the sampled deal, a playout and the update of the visited nodes
+         */
+        private void iterate(SchnapsenBoard board) {
+            int bummerl0 = board.getPlayer0Bummerl();
+            int bummerl1 = board.getPlayer1Bummerl();
+            int amount0 = board.getPlayer0BummerlAmount();
+            int amount1 = board.getPlayer1BummerlAmount();
+
+            Node node = root;
+            int depth = 0;
+            int points;
+            while ((points = RoundPlayout.roundPoints(board, bummerl0, bummerl1, amount0, amount1)) == RoundPlayout.ROUND_RUNNING) {
+                int playerId = board.getPlayerTurnId();
+                SchnapsenAction chosen = null;
+                Node chosenNode = null;
+                boolean expanded = false;
+
+                //actions without a child are expanded first, picked at random by reservoir sampling
+                int untried = 0;
+                for (SchnapsenAction action : SchnapsenAction.getPossibleActions(board)) {
+                    Node child = node.children.get(action.getOrdinal());
+                    if (child == null && random.nextInt(++untried) == 0) {
+                        chosen = action;
+                    }
+                }
+                if (chosen != null) {
+                    chosenNode = node.child(chosen.getOrdinal(), playerId);
+                    expanded = true;
+                }
+
+                double bestUcb = Double.NEGATIVE_INFINITY;
+                for (SchnapsenAction action : SchnapsenAction.getPossibleActions(board)) {
+                    Node child = node.children.get(action.getOrdinal());
+                    if (child == null) {
+                        continue;
+                    }
+                    child.makeAvailable();
+                    if (!expanded) {
+                        double ucb = child.visits == 0 ? Double.POSITIVE_INFINITY : child.ucb();
+                        if (ucb > bestUcb) {
+                            bestUcb = ucb;
+                            chosen = action;
+                            chosenNode = child;
+                        }
+                    }
+                }
+
+                chosenNode.addVirtualLoss();
+                path[depth++] = chosenNode;
+                board.applyTrusted(chosen);
+                node = chosenNode;
+                if (expanded || depth == path.length) {
+                    break;
+                }
+            }
+
+            if (points == RoundPlayout.ROUND_RUNNING) {
+                points = RoundPlayout.roundPoints(board, bummerl0, bummerl1, amount0, amount1);
+                if (points == RoundPlayout.ROUND_RUNNING) {
+                    points = playout.evaluate(board, null, 0);
+                }
+            }
+            for (int i = 0; i < depth; i++) {
+                path[i].update(path[i].playerId == 0 ? points : -points);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.agent;
+
+import at.ac.tuwien.ifs.sge.agent.AbstractGameAgent;
+import at.ac.tuwien.ifs.sge.agent.GameAgent;
+import at.ac.tuwien.ifs.sge.engine.Logger;
+import game.Schnapsen;
+import game.action.SchnapsenAction;
+import game.board.DeterminizationSampler;
+import game.board.EndgameSolver;
+import game.board.SchnapsenBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Perfect Information Monte Carlo agent.
+ * <p>
+ * The agent samples deals that are consistent with its view of the game and evaluates every possible action on each of them,
+ * by playing the round out randomly until it can be solved exactly. The action with the best average Bummerl points is taken.
+ * <p>
+ * The samples are evaluated by one fork-join task per thread. The tasks share nothing but the view, so the number of
+ * samples grows with the number of cores, and each task stops at the time limit given by the engine.
+ */
+public class PimcAgent extends AbstractGameAgent<Schnapsen, SchnapsenAction> implements GameAgent<Schnapsen, SchnapsenAction> {
+
+    private final int parallelism;
+    //Created by setUp and shut down by tearDown
+    private ForkJoinPool pool;
+
+    //Number of samples evaluated for the last action, useful for comparing thread counts
+    private long lastSampleCount;
+
+    //Solves views without hidden information, the table is kept between actions
+    private final EndgameSolver solver = new EndgameSolver();
+
+    public PimcAgent() {
+        this(null);
+    }
+
+    /**
+     * Constructor called by the engine, the agent uses all available cores
+     * @param log the logger of the engine
+     */
+    public PimcAgent(Logger log) {
+        this(log, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an agent using the given number of threads
+     * @param log the logger of the engine, can be null
+     * @param parallelism number of threads evaluating samples
+     */
+    public PimcAgent(Logger log, int parallelism) {
+        super(log);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void setUp(int numberOfPlayers, int playerId) {
+        super.setUp(numberOfPlayers, playerId);
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelism);
+        }
+    }
+
+    @Override
+    public SchnapsenAction computeNextAction(Schnapsen game, long computationTime, TimeUnit timeUnit) {
+        super.setTimers(computationTime, timeUnit);
+        if (pool == null) {
+            throw new IllegalStateException("setUp has to be called before computeNextAction");
+        }
+
+        List<SchnapsenAction> actions = new ArrayList<>(game.getPossibleActions());
+        if (actions.size() == 1) {
+            return actions.get(0);
+        }
+
+        SchnapsenBoard view = game.getBoard();
+        //a view without hidden information is the only deal consistent with it, so it is solved instead of sampled
+        if (EndgameSolver.canSolve(view)) {
+            return solver.bestAction(view);
+        }
+
+        double[] results = pool.invoke(new SampleTask(view, actions, START_TIME + TIMEOUT, parallelism, random.nextLong()));
+
+        int best = 0;
+        for (int i = 1; i < actions.size(); i++) {
+            if (results[i] > results[best]) {
+                best = i;
+            }
+        }
+        lastSampleCount = (long) results[actions.size()];
+        if (log != null) {
+            log.debf("PIMC evaluated %d samples in %d ms", lastSampleCount, TimeUnit.NANOSECONDS.toMillis(nanosElapsed()));
+        }
+        return actions.get(best);
+    }
+
+    /**
+     * Returns the number of samples that were evaluated for the last computed action
+     * @return number of samples
+     */
+    public long getLastSampleCount() {
+        return lastSampleCount;
+    }
+
+    @Override
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        tearDown();
+    }
+
+    /**
+     * Splits the threads in halves until every task evaluates samples on its own.
+     * The result holds the summed points of every action followed by the number of samples
+     */
+    private static final class SampleTask extends RecursiveTask<double[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final SchnapsenBoard view;
+        private final List<SchnapsenAction> actions;
+        private final long deadline;
+        private final int threads;
+        private final long seed;
+
+        private SampleTask(SchnapsenBoard view, List<SchnapsenAction> actions, long deadline, int threads, long seed) {
+            this.view = view;
+            this.actions = actions;
+            this.deadline = deadline;
+            this.threads = threads;
+            this.seed = seed;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (threads > 1) {
+                SampleTask left = new SampleTask(view, actions, deadline, threads / 2, seed * 31 + 1);
+                SampleTask right = new SampleTask(view, actions, deadline, threads - threads / 2, seed * 31 + 2);
+                left.fork();
+                double[] results = right.compute();
+                double[] leftResults = left.join();
+                for (int i = 0; i < results.length; i++) {
+                    results[i] += leftResults[i];
+                }
+                return results;
+            }
+
+            Random random = new Random(seed);
+            RoundPlayout playout = new RoundPlayout(random);
+            int playerId = view.getPlayerTurnId();
+            DeterminizationSampler sampler = new DeterminizationSampler(view, playerId);
+
+            double[] results = new double[actions.size() + 1];
+            while (System.nanoTime() - deadline < 0) {
+                SchnapsenBoard sample = sampler.sample(random);
+                for (int i = 0; i < actions.size(); i++) {
+                    results[i] += playout.evaluate(sample, actions.get(i), playerId);
+                }
+                results[actions.size()]++;
+            }
+            return results;
+        }
+    }
+}
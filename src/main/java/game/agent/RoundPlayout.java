@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.agent;
+
+import game.action.SchnapsenAction;
+import game.board.EndgameSolver;
+import game.board.SchnapsenBoard;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Evaluates fully specified boards by playing random actions until the round is over.
+ * As soon as the talon is closed or the pile is empty the rest of the round is solved exactly instead.
+ * <p>
+ * Boards are changed with apply and undo only, so an evaluated board is left as it was.
+ * Every thread needs its own playout, as the solver and the random object are not shared.
+ */
+final class RoundPlayout {
+
+    //Returned by roundPoints as long as the round is not over
+    static final int ROUND_RUNNING = Integer.MIN_VALUE;
+
+    private final Random random;
+    private final EndgameSolver solver;
+
+    RoundPlayout(Random random) {
+        this.random = random;
+        this.solver = new EndgameSolver();
+    }
+
+    /**
+     * Applies the action and plays the round of the board to its end
+     * @param board a board without hidden information
+     * @param action the action to be taken first, null to start playing right away
+     * @param playerId id of the player the value is computed for
+     * @return the Bummerl points the player wins in this round, negative if the opponent wins them
+     */
+    int evaluate(SchnapsenBoard board, SchnapsenAction action, int playerId) {
+        int bummerl0 = board.getPlayer0Bummerl();
+        int bummerl1 = board.getPlayer1Bummerl();
+        int amount0 = board.getPlayer0BummerlAmount();
+        int amount1 = board.getPlayer1BummerlAmount();
+
+        int applied = 0;
+        if (action != null) {
+            board.apply(action);
+            applied++;
+        }
+        int points;
+        while ((points = roundPoints(board, bummerl0, bummerl1, amount0, amount1)) == ROUND_RUNNING) {
+            if (EndgameSolver.canSolve(board)) {
+                points = solver.solve(board);
+                break;
+            }
+            board.applyTrusted(randomAction(board));
+            applied++;
+        }
+
+        for (int i = 0; i < applied; i++) {
+            board.undo();
+        }
+        return playerId == 0 ? points : -points;
+    }
+
+    /**
+     * Checks if the round that started with the given Bummerl counters is over, as the board starts the next round on its own
+     * @param board the board to be checked
+     * @param bummerl0 Bummerl counter of player 0 at the start
+     * @param bummerl1 Bummerl counter of player 1 at the start
+     * @param amount0 Bummerl amount of player 0 at the start
+     * @param amount1 Bummerl amount of player 1 at the start
+     * @return the Bummerl points of the round, positive if player 0 won them, or ROUND_RUNNING
+     */
+    static int roundPoints(SchnapsenBoard board, int bummerl0, int bummerl1, int amount0, int amount1) {
+        if (board.getPlayer0BummerlAmount() != amount0 || board.getPlayer1BummerlAmount() != amount1) {
+            //the Bummerl was finished and reset, the winner got at least the points that were left
+            return board.getPlayer1BummerlAmount() != amount1 ? bummerl0 : -bummerl1;
+        }
+        if (board.getPlayer0Bummerl() != bummerl0 || board.getPlayer1Bummerl() != bummerl1) {
+            return (bummerl0 - board.getPlayer0Bummerl()) - (bummerl1 - board.getPlayer1Bummerl());
+        }
+        return ROUND_RUNNING;
+    }
+
+    /**
+     * Picks one of the possible actions of the board uniformly
+     * @param board the board the action is picked for
+     * @return a possible action
+     */
+    SchnapsenAction randomAction(SchnapsenBoard board) {
+        Set<SchnapsenAction> actions = SchnapsenAction.getPossibleActions(board);
+        Iterator<SchnapsenAction> iterator = actions.iterator();
+        for (int i = random.nextInt(actions.size()); i > 0; i--) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+}
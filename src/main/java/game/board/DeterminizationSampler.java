@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.board;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static game.board.SchnapsenBoard.*;
+
+/**
+ * Fills in the hidden information of a player's view with deals that are consistent with everything the player has seen.
+ * <p>
+ * The cards of the opponent and of the drawing pile are drawn uniformly from the cards the player has not seen,
+ * while the following information is respected:
+ * cards played in tricks and the leading card, the trump card at the bottom of the pile,
+ * the opponent's declared marriages, an old trump card or a drawn trump card that was last seen going to the opponent,
+ * and suits, trumps or higher cards the opponent can not hold, because they failed to follow suit or take a trick
+ * after the talon was closed or the pile was empty.
+ * <p>
+ * The view is analysed once, so sampling only shuffles a few card indices. A sampler is not thread safe.
+ */
+public class DeterminizationSampler {
+
+    private final SchnapsenBoard view;
+    private final int playerId;
+
+    //The cards of the player, which stay as they are in every sample
+    private final List<PlayingCard> playerCards;
+
+    //The cards the opponent is known to hold and the cards that are still unknown
+    private final int knownOpponentCards;
+    private final int opponentSlots;
+
+    //Unknown cards that may be in the opponent's hand and unknown cards that have to be in the pile
+    private final int[] candidates;
+    private final int[] pileOnlyCards;
+
+    //The bottom card of the pile is visible, NO_CARD if the pile is empty
+    private final int pileBottom;
+
+    /**
+     * Analyses the view of the player
+     * @param view the board as seen by the player, hidden cards of the opponent and the pile are ignored
+     * @param playerId id of the player whose view is sampled
+     */
+    public DeterminizationSampler(SchnapsenBoard view, int playerId) {
+        if (view == null) {
+            throw new IllegalArgumentException("The passed board cannot be null");
+        }
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+        if (view.hiddenCards(playerId) != 0) {
+            throw new IllegalArgumentException("The cards of the player cannot be hidden");
+        }
+        int opponentId = 1 - playerId;
+        int trumpSuit = view.trumpSuit();
+        int pileSize = view.playingCardsLeftInPile();
+
+        this.view = view;
+        this.playerId = playerId;
+        this.playerCards = view.cardList(view.hand(playerId), 0);
+
+        //every card the player has seen: their hand, the tricks, the leading card and the bottom of the pile
+        int seen = view.hand(playerId) | bitOf(view.getLeadingCard());
+        this.pileBottom = pileSize != 0 ? indexOf(view.getTrumpCard()) : NO_CARD;
+        if (pileBottom != NO_CARD) {
+            seen |= bit(pileBottom);
+        }
+
+        //cards the opponent can not hold, learned from the tricks played with the follow suit and take trick rules
+        int excluded = 0;
+        int strictTricks = (10 - pileSize) / 2;
+        for (int i = 0; i < view.trickCount(); i++) {
+            int trick = view.trick(i);
+            int follow = trick & (int) CARD_BITS_MASK;
+            int lead = trick >>> CARD_BITS & (int) CARD_BITS_MASK;
+            int winner = trick >>> (2 * CARD_BITS);
+            seen |= bit(follow) | bit(lead);
+
+            if (i < strictTricks || follow == PLACEHOLDER || lead == PLACEHOLDER) {
+                continue;
+            }
+            boolean followWins = suitOf(follow) == suitOf(lead) ? valueOf(follow) > valueOf(lead) : suitOf(follow) == trumpSuit;
+            int follower = followWins ? winner : 1 - winner;
+            if (follower != opponentId) {
+                continue;
+            }
+            if (suitOf(follow) != suitOf(lead)) {
+                excluded |= suitMask(suitOf(lead));
+                if (suitOf(follow) != trumpSuit) {
+                    excluded |= suitMask(trumpSuit);
+                }
+            } else if (valueOf(follow) < valueOf(lead)) {
+                excluded |= higherCards(lead);
+            }
+        }
+
+        //cards the view holds in the opponent's hand and cards that were shown going to the opponent and have not been seen since, as tracked by the board.
+        //Boards that were not played to this state do not know who exchanged the trump card, it went to the opponent unless the player holds it
+        int known = view.hand(opponentId) | view.getShownCards(opponentId);
+        known |= bitOf(view.getOldTrumpCard());
+        if (pileSize == 0) {
+            known |= bitOf(view.getTrumpCard());
+        }
+        known &= ~seen;
+        this.knownOpponentCards = known;
+
+        int unknown = (1 << CARD_COUNT) - 1 & ~seen & ~known;
+        int opponentCards = Integer.bitCount(view.hand(opponentId)) + view.hiddenCards(opponentId);
+        this.opponentSlots = opponentCards - Integer.bitCount(known);
+        this.candidates = cardIndices(unknown & ~excluded);
+        this.pileOnlyCards = cardIndices(unknown & excluded);
+
+        int pileSlots = pileSize - (pileBottom != NO_CARD ? 1 : 0);
+        if (opponentSlots < 0 || candidates.length < opponentSlots
+                || candidates.length + pileOnlyCards.length != opponentSlots + pileSlots) {
+            throw new IllegalStateException("The view is not consistent with any deal");
+        }
+    }
+
+    /**
+     * Creates a fully specified board that is consistent with the view, every consistent deal is equally likely
+     * @param random the random object used for the deal
+     * @return a new board with the hidden cards filled in
+     */
+    public SchnapsenBoard sample(Random random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random object cannot be null");
+        }
+        int[] cards = candidates.clone();
+
+        //the first cards of a partial shuffle go to the opponent
+        List<PlayingCard> opponentCards = new ArrayList<>(opponentSlots + Integer.bitCount(knownOpponentCards));
+        for (int known = knownOpponentCards; known != 0; known &= known - 1) {
+            opponentCards.add(PlayingCard.of(Integer.numberOfTrailingZeros(known)));
+        }
+        for (int i = 0; i < opponentSlots; i++) {
+            int j = i + random.nextInt(cards.length - i);
+            int card = cards[j];
+            cards[j] = cards[i];
+            cards[i] = card;
+            opponentCards.add(PlayingCard.of(card));
+        }
+
+        //the remaining candidates and the cards the opponent can not hold are shuffled into the pile
+        int[] pile = new int[cards.length - opponentSlots + pileOnlyCards.length];
+        System.arraycopy(cards, opponentSlots, pile, 0, cards.length - opponentSlots);
+        System.arraycopy(pileOnlyCards, 0, pile, cards.length - opponentSlots, pileOnlyCards.length);
+        LinkedList<PlayingCard> playingCardPile = new LinkedList<>();
+        for (int i = pile.length; i > 0; i--) {
+            int j = random.nextInt(i);
+            playingCardPile.add(PlayingCard.of(pile[j]));
+            pile[j] = pile[i - 1];
+        }
+        if (pileBottom != NO_CARD) {
+            playingCardPile.add(PlayingCard.of(pileBottom));
+        }
+
+        if (playerId == 0) {
+            return new SchnapsenBoard(view, playerCards, opponentCards, playingCardPile);
+        }
+        return new SchnapsenBoard(view, opponentCards, playerCards, playingCardPile);
+    }
+
+    /**
+     * helper method to get the bit of a card in a card bitmask
+     * @param card the card, can be null
+     * @return the bit of the card, 0 for null or PlaceHolder cards
+     */
+    private static int bitOf(PlayingCard card) {
+        return card == null ? 0 : bit(indexOf(card));
+    }
+
+    /**
+     * helper method to list the cards of a bitmask
+     * @param cards bitmask of the cards
+     * @return the card indices in ascending order
+     */
+    private static int[] cardIndices(int cards) {
+        int[] indices = new int[Integer.bitCount(cards)];
+        for (int i = 0; cards != 0; cards &= cards - 1) {
+            indices[i++] = Integer.numberOfTrailingZeros(cards);
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.board;
+
+import game.action.SchnapsenAction;
+
+import java.util.Arrays;
+
+import static game.board.SchnapsenBoard.*;
+
+/**
+ * Solves the end of a round exactly, once the talon is closed or the drawing pile is empty.
+ * In this phase no more cards are drawn and the must follow suit and must take trick rules apply,
+ * so with both hands known the remaining game tree is small enough for an alpha-beta search.
+ * <p>
+ * The result is the Bummerl points of the round as computed by the board after the round is over,
+ * positive if player 0 wins them and negative if player 1 wins them. Player 0 maximises, player 1 minimises.
+ * Positions are stored in a transposition table, which is kept between searches.
+ */
+public class EndgameSolver {
+
+    //Bounds of the values stored in the transposition table
+    private static final byte EXACT = 0;
+    private static final byte LOWER_BOUND = 1;
+    private static final byte UPPER_BOUND = 2;
+
+    //Moves are the ordinals of the actions: the index of a played card or 21 + suit for declaring a marriage
+    private static final int MARRIAGE = 21;
+    private static final int NO_MOVE = -1;
+
+    //Cards are tried in descending order of their value: Aces, Tens, Kings, Queens and Jacks
+    private static final int[] CARD_ORDER = createCardOrder();
+
+    //The transposition table, the two keys together identify a position exactly
+    private final int tableMask;
+    private final long[] tableStateKeys;
+    private final int[] tableScoreKeys;
+    private final byte[] tableValues;
+    private final byte[] tableBounds;
+    private final byte[] tableMoves;
+
+    //The rules of the round that do not change during the search
+    private int trumpSuit;
+    private int talonClosingPlayerId;
+    private int talonClosedEnemyScore;
+    private int roundKey;
+
+    //Depth of the current node and best move found at the root
+    private int ply;
+    private int bestMove;
+
+    /**
+     * Creates a solver with a transposition table of 2^16 entries
+     */
+    public EndgameSolver() {
+        this(16);
+    }
+
+    /**
+     * Creates a solver with a transposition table of 2^tableBits entries
+     * @param tableBits the number of bits of the table index
+     */
+    public EndgameSolver(int tableBits) {
+        if (tableBits < 1 || tableBits > 26) {
+            throw new IllegalArgumentException("tableBits must be between 1 and 26");
+        }
+        int size = 1 << tableBits;
+        this.tableMask = size - 1;
+        this.tableStateKeys = new long[size];
+        this.tableScoreKeys = new int[size];
+        this.tableValues = new byte[size];
+        this.tableBounds = new byte[size];
+        this.tableMoves = new byte[size];
+        //no position has a score key of -1, so the empty entries never match
+        Arrays.fill(tableScoreKeys, -1);
+    }
+
+    /**
+     * Checks if the board is in a phase the solver can handle
+     * @param board the board to be checked
+     * @return true if the talon is closed or the pile is empty and there is no hidden information in the hands
+     */
+    public static boolean canSolve(SchnapsenBoard board) {
+        if (board == null) {
+            throw new IllegalArgumentException("The passed board cannot be null");
+        }
+        return !board.isGameOver()
+                && (board.isTalonClosed() || board.playingCardPileIsEmpty())
+                && board.hiddenCards(0) == 0 && board.hiddenCards(1) == 0
+                && indexOf(board.getLeadingCard()) != PLACEHOLDER;
+    }
+
+    /**
+     * Solves the rest of the round exactly
+     * @param board the board to be solved, it is not changed
+     * @return the Bummerl points of the round, positive if player 0 wins them and negative if player 1 wins them
+     */
+    public int solve(SchnapsenBoard board) {
+        if (!canSolve(board)) {
+            throw new IllegalArgumentException("The board can only be solved after the talon is closed or the pile is empty and without hidden information");
+        }
+        trumpSuit = board.trumpSuit();
+        talonClosingPlayerId = board.talonClosingPlayerId();
+        talonClosedEnemyScore = board.talonClosedEnemyScore();
+        roundKey = trumpSuit | (talonClosingPlayerId + 1) << 2 | talonClosedEnemyScore << 4;
+        ply = 0;
+        bestMove = NO_MOVE;
+
+        return search(board.hand(0), board.hand(1), board.getPlayer0Score(), board.getPlayer1Score(),
+                board.marriageTempScore(0), board.marriageTempScore(1),
+                indexOf(board.getLeadingCard()), indexOf(board.getMarriageCardDeclared()), board.getPlayerTurnId(),
+                -4, 4);
+    }
+
+    /**
+     * Solves the rest of the round and returns the best action of the current player
+     * @param board the board to be solved, it is not changed
+     * @return a shared action that reaches the best outcome for the current player
+     */
+    public SchnapsenAction bestAction(SchnapsenBoard board) {
+        solve(board);
+        return SchnapsenAction.of(board.getTrumpSuit(), board.getPlayerTurnId(), bestMove);
+    }
+
+    /**
+     * Alpha-beta search over the state of the round, the state is passed as values so no undo is needed
+     * @param hand0 cards of player 0
+     * @param hand1 cards of player 1
+     * @param score0 round score of player 0
+     * @param score1 round score of player 1
+     * @param temp0 marriage score of player 0 that is not yet scored
+     * @param temp1 marriage score of player 1 that is not yet scored
+     * @param lead index of the leading card, NO_CARD if the player to move is leading
+     * @param marriage index of the declared marriage card, NO_CARD if there is none
+     * @param turn id of the player to move
+     * @param alpha lower bound of the value that is still of interest
+     * @param beta upper bound of the value that is still of interest
+     * @return the Bummerl points of the round
+     */
+    private int search(int hand0, int hand1, int score0, int score1, int temp0, int temp1, int lead, int marriage, int turn, int alpha, int beta) {
+        long stateKey = hand0 | (long) hand1 << 20 | (long) (lead + 1) << 40 | (long) (marriage + 1) << 46 | (long) turn << 52;
+        int scoreKey = score0 | score1 << 7 | temp0 / 20 << 14 | temp1 / 20 << 16 | roundKey << 18;
+        int slot = (int) mix(stateKey ^ (long) scoreKey << 21) & tableMask;
+
+        int ttMove = NO_MOVE;
+        if (tableStateKeys[slot] == stateKey && tableScoreKeys[slot] == scoreKey) {
+            int value = tableValues[slot];
+            byte bound = tableBounds[slot];
+            if (bound == EXACT || bound == LOWER_BOUND && value >= beta || bound == UPPER_BOUND && value <= alpha) {
+                if (ply == 0) {
+                    bestMove = tableMoves[slot];
+                }
+                return value;
+            }
+            ttMove = tableMoves[slot];
+        }
+
+        int hand = turn == 0 ? hand0 : hand1;
+        int playable;
+        int marriages = 0;
+        if (lead != NO_CARD) {
+            playable = followingCards(hand, lead, trumpSuit);
+        } else if (marriage != NO_CARD) {
+            playable = bit(marriage) | bit(marriagePartner(marriage));
+        } else {
+            playable = hand;
+            for (int suit = 0; suit < 4; suit++) {
+                int pair = 0b110 << (CARD_BITS * suit);
+                if ((hand & pair) == pair) {
+                    marriages |= 1 << suit;
+                }
+            }
+        }
+
+        int alphaStart = alpha;
+        int betaStart = beta;
+        int best = turn == 0 ? -4 : 4;
+        int bestLocal = NO_MOVE;
+
+        //the move of the transposition table first, then marriages and then the cards by descending value
+        for (int i = -1; i < 4 + CARD_ORDER.length; i++) {
+            int move;
+            if (i == -1) {
+                move = ttMove;
+                if (move == NO_MOVE) continue;
+            } else {
+                move = i < 4 ? MARRIAGE + (trumpSuit + i) % 4 : CARD_ORDER[i - 4];
+                if (move == ttMove) continue;
+            }
+            boolean legal = move >= MARRIAGE ? (marriages & 1 << (move - MARRIAGE)) != 0 : (playable & bit(move)) != 0;
+            if (!legal) continue;
+
+            ply++;
+            int value = move >= MARRIAGE
+                    ? declareMarriage(hand0, hand1, score0, score1, temp0, temp1, move - MARRIAGE, turn, alpha, beta)
+                    : playCard(hand0, hand1, score0, score1, temp0, temp1, lead, move, turn, alpha, beta);
+            ply--;
+
+            if (turn == 0 ? value > best : value < best) {
+                best = value;
+                bestLocal = move;
+            }
+            if (turn == 0) {
+                alpha = Math.max(alpha, value);
+            } else {
+                beta = Math.min(beta, value);
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        tableStateKeys[slot] = stateKey;
+        tableScoreKeys[slot] = scoreKey;
+        tableValues[slot] = (byte) best;
+        tableBounds[slot] = best <= alphaStart ? UPPER_BOUND : best >= betaStart ? LOWER_BOUND : EXACT;
+        tableMoves[slot] = (byte) bestLocal;
+        if (ply == 0) {
+            bestMove = bestLocal;
+        }
+        return best;
+    }
+
+    /**
+     * Plays a card as leading or following card, a finished trick is scored like on the board without drawing cards
+     * @return the value of the resulting position
+     */
+    private int playCard(int hand0, int hand1, int score0, int score1, int temp0, int temp1, int lead, int card, int turn, int alpha, int beta) {
+        if (turn == 0) {
+            hand0 &= ~bit(card);
+        } else {
+            hand1 &= ~bit(card);
+        }
+        if (lead == NO_CARD) {
+            return search(hand0, hand1, score0, score1, temp0, temp1, card, NO_CARD, 1 - turn, alpha, beta);
+        }
+
+        int winner;
+        if (suitOf(card) != suitOf(lead)) {
+            winner = suitOf(card) == trumpSuit ? turn : 1 - turn;
+        } else {
+            winner = valueOf(card) > valueOf(lead) ? turn : 1 - turn;
+        }
+        int trickScore = valueOf(card) + valueOf(lead);
+        if (winner == 0) {
+            score0 += trickScore + temp0;
+            temp0 = 0;
+        } else {
+            score1 += trickScore + temp1;
+            temp1 = 0;
+        }
+
+        if (score0 >= 66 || score1 >= 66 || hand0 == 0 && hand1 == 0) {
+            return roundPoints(score0, score1, talonClosingPlayerId, talonClosedEnemyScore, winner);
+        }
+        return search(hand0, hand1, score0, score1, temp0, temp1, NO_CARD, NO_CARD, winner, alpha, beta);
+    }
+
+    /**
+     * Declares the marriage of a suit, the marriage score is only added once the player has taken a trick
+     * @return the value of the resulting position
+     */
+    private int declareMarriage(int hand0, int hand1, int score0, int score1, int temp0, int temp1, int suit, int turn, int alpha, int beta) {
+        int tempScore = suit == trumpSuit ? 40 : 20;
+        //the King is declared, just like the marriage actions of the game
+        int king = suit * 5 + 2;
+        if (turn == 0) {
+            if (score0 != 0) {
+                score0 += tempScore;
+            } else {
+                temp0 = tempScore;
+            }
+        } else {
+            if (score1 != 0) {
+                score1 += tempScore;
+            } else {
+                temp1 = tempScore;
+            }
+        }
+        if (score0 >= 66 || score1 >= 66) {
+            return roundPoints(score0, score1, talonClosingPlayerId, talonClosedEnemyScore, turn);
+        }
+        return search(hand0, hand1, score0, score1, temp0, temp1, NO_CARD, king, turn, alpha, beta);
+    }
+
+    /**
+     * Creating the order in which the cards are tried
+     * @return the card indices ordered by descending value
+     */
+    private static int[] createCardOrder() {
+        int[] order = new int[CARD_COUNT];
+        int i = 0;
+        for (int value = 4; value >= 0; value--) {
+            for (int suit = 0; suit < 4; suit++) {
+                order[i++] = suit * 5 + value;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Spreads the bits of a key over the table index with the SplitMix64 finalizer
+     * @param z the key to be mixed
+     * @return the mixed key
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
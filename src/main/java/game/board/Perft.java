@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.board;
+
+import game.action.SchnapsenAction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts every sequence of possible actions up to a depth, like the perft of chess engines.
+ * <p>
+ * The counts are broken down by depth and by the type of the last action, so they serve as reference values
+ * that catch changes of the rules when the move generation is optimised, while the time taken gives the nodes per second.
+ * The tree is walked with getPossibleActions and apply/undo. A finished round is a leaf, so the counts describe the tree of one deal.
+ */
+public final class Perft {
+
+    //Types of actions the counts are broken down by
+    public static final int PLAY = 0;
+    public static final int MARRIAGE = 1;
+    public static final int EXCHANGE = 2;
+    public static final int CLOSE = 3;
+    public static final int TYPE_COUNT = 4;
+
+    //Subtrees with at least this many plies left are split into fork-join tasks
+    private static final int SPLIT_DEPTH = 3;
+
+    private Perft() {
+    }
+
+    /**
+     * Counts the action sequences of the board on the calling thread
+     * @param board a board without hidden information, it is left as it was
+     * @param depth the maximum number of actions of a sequence
+     * @return the counts of every depth
+     */
+    public static Result count(SchnapsenBoard board, int depth) {
+        checkArguments(board, depth);
+        long start = System.nanoTime();
+        long[][] counts = new long[depth + 1][TYPE_COUNT];
+        walk(board, depth, 0, roundOf(board), counts);
+        return new Result(counts, System.nanoTime() - start);
+    }
+
+    /**
+     * Counts the action sequences of the board with fork-join tasks, every task walks its own copy of the board
+     * @param board a board without hidden information, it is not changed
+     * @param depth the maximum number of actions of a sequence
+     * @param pool the pool the tasks are run in
+     * @return the counts of every depth, equal to the counts of count
+     */
+    public static Result countParallel(SchnapsenBoard board, int depth, ForkJoinPool pool) {
+        checkArguments(board, depth);
+        if (pool == null) {
+            throw new IllegalArgumentException("pool cannot be null");
+        }
+        long start = System.nanoTime();
+        long[][] counts = pool.invoke(new PerftTask(new SchnapsenBoard(board), depth, 0, roundOf(board)));
+        return new Result(counts, System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the type of an action
+     * @param action the action
+     * @return PLAY, MARRIAGE, EXCHANGE or CLOSE
+     */
+    public static int typeOf(SchnapsenAction action) {
+        int ordinal = action.getOrdinal();
+        if (ordinal < SchnapsenAction.MARRIAGE) {
+            return PLAY;
+        }
+        if (ordinal < SchnapsenAction.EXCHANGE) {
+            return MARRIAGE;
+        }
+        return ordinal == SchnapsenAction.EXCHANGE ? EXCHANGE : CLOSE;
+    }
+
+    /**
+     * Walks the tree below the board and adds the counts, the board is restored with undo
+     */
+    private static void walk(SchnapsenBoard board, int depth, int ply, int[] round, long[][] counts) {
+        if (ply == depth || roundOver(board, round)) {
+            return;
+        }
+        for (SchnapsenAction action : SchnapsenAction.getPossibleActions(board)) {
+            counts[ply + 1][typeOf(action)]++;
+            if (ply + 1 < depth) {
+                board.applyTrusted(action);
+                walk(board, depth, ply + 1, round, counts);
+                board.undo();
+            }
+        }
+    }
+
+    /**
+     * Checks if the round the walk started in is over, as the board deals the next round on its own
+     */
+    private static boolean roundOver(SchnapsenBoard board, int[] round) {
+        return board.isGameOver()
+                || board.getPlayer0Bummerl() != round[0] || board.getPlayer1Bummerl() != round[1]
+                || board.getPlayer0BummerlAmount() != round[2] || board.getPlayer1BummerlAmount() != round[3];
+    }
+
+    private static int[] roundOf(SchnapsenBoard board) {
+        return new int[]{board.getPlayer0Bummerl(), board.getPlayer1Bummerl(),
+                board.getPlayer0BummerlAmount(), board.getPlayer1BummerlAmount()};
+    }
+
+    private static void checkArguments(SchnapsenBoard board, int depth) {
+        if (board == null) {
+            throw new IllegalArgumentException("The passed board cannot be null");
+        }
+        if (board.hiddenCards(0) != 0 || board.hiddenCards(1) != 0) {
+            throw new IllegalArgumentException("The board cannot have hidden information");
+        }
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth cannot be negative");
+        }
+    }
+
+    /**
+     * Counts one subtree, subtrees that are deep enough are forked with a copy of the board
+     */
+    private static final class PerftTask extends RecursiveTask<long[][]> {
+        private static final long serialVersionUID = 1L;
+
+        private final SchnapsenBoard board;
+        private final int depth;
+        private final int ply;
+        private final int[] round;
+
+        private PerftTask(SchnapsenBoard board, int depth, int ply, int[] round) {
+            this.board = board;
+            this.depth = depth;
+            this.ply = ply;
+            this.round = round;
+        }
+
+        @Override
+        protected long[][] compute() {
+            long[][] counts = new long[depth + 1][TYPE_COUNT];
+            if (depth - ply < SPLIT_DEPTH || roundOver(board, round)) {
+                walk(board, depth, ply, round, counts);
+                return counts;
+            }
+
+            List<PerftTask> tasks = new ArrayList<>();
+            for (SchnapsenAction action : SchnapsenAction.getPossibleActions(board)) {
+                counts[ply + 1][typeOf(action)]++;
+                SchnapsenBoard child = new SchnapsenBoard(board);
+                child.applyTrusted(action);
+                tasks.add(new PerftTask(child, depth, ply + 1, round));
+            }
+            for (PerftTask task : invokeAll(tasks)) {
+                long[][] taskCounts = task.join();
+                //the task only counts the nodes below the one it starts at
+                for (int d = ply + 2; d <= depth; d++) {
+                    for (int type = 0; type < TYPE_COUNT; type++) {
+                        counts[d][type] += taskCounts[d][type];
+                    }
+                }
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * The counts of a perft run
+     */
+    public static final class Result {
+        private final long[][] counts;
+        private final long nanos;
+
+        private Result(long[][] counts, long nanos) {
+            this.counts = counts;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Returns the deepest depth that was counted
+         * @return the depth of the run
+         */
+        public int getDepth() {
+            return counts.length - 1;
+        }
+
+        /**
+         * Returns the number of sequences of the given length whose last action is of the given type
+         * @param depth the length of the sequences
+         * @param type PLAY, MARRIAGE, EXCHANGE or CLOSE
+         * @return the number of sequences
+         */
+        public long getCount(int depth, int type) {
+            return counts[depth][type];
+        }
+
+        /**
+         * Returns the number of sequences of the given length, depth 0 is the board itself
+         * @param depth the length of the sequences
+         * @return the number of sequences
+         */
+        public long getNodes(int depth) {
+            if (depth == 0) {
+                return 1;
+            }
+            long nodes = 0;
+            for (long count : counts[depth]) {
+                nodes += count;
+            }
+            return nodes;
+        }
+
+        /**
+         * Returns the number of sequences of all lengths
+         * @return the number of nodes of the tree
+         */
+        public long getTotalNodes() {
+            long nodes = 0;
+            for (int depth = 0; depth < counts.length; depth++) {
+                nodes += getNodes(depth);
+            }
+            return nodes;
+        }
+
+        /**
+         * Returns the time the run took
+         * @return time in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Returns the nodes of the tree per second of the run
+         * @return nodes per second
+         */
+        public double getNodesPerSecond() {
+            return nanos == 0 ? 0 : getTotalNodes() * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("depth nodes play marriage exchange close\n");
+            for (int depth = 0; depth < counts.length; depth++) {
+                builder.append(depth).append(' ').append(getNodes(depth));
+                for (long count : counts[depth]) {
+                    builder.append(' ').append(count);
+                }
+                builder.append('\n');
+            }
+            builder.append(String.format("%d nodes in %d ms, %.0f nodes per second",
+                    getTotalNodes(), nanos / 1_000_000, getNodesPerSecond()));
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Runs perft on the first deal of a seed
+     * @param args seed, depth and optionally the number of threads, the single-threaded walk is used without it
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("usage: Perft <seed> <depth> [threads]");
+            return;
+        }
+        SchnapsenBoard board = new SchnapsenBoard(Long.parseLong(args[0]), 1);
+        int depth = Integer.parseInt(args[1]);
+        if (args.length > 2) {
+            ForkJoinPool pool = new ForkJoinPool(Integer.parseInt(args[2]));
+            try {
+                System.out.println(countParallel(board, depth, pool));
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            System.out.println(count(board, depth));
+        }
+    }
+}
@@ -9,11 +9,13 @@ package game.board;
 import java.util.Objects;
 
 public class PlayingCard implements Comparable<PlayingCard> {
+
+    //The shared cards of the game indexed by the ordinal of their CardName, the boards only ever hand out these cards
+    private static final PlayingCard[] DECK = createDeck();
+
     private final SchnapsenBoard.CardSuit suit;
     private final SchnapsenBoard.CardName cardName;
     private final int cardValue;
-    private PlayingCard possibleMarriage;
-    private boolean isTrumpSuit = false;
 
     public PlayingCard(SchnapsenBoard.CardSuit suit, SchnapsenBoard.CardName cardName, int cardValue) {
         if (suit == null) {
@@ -30,12 +32,39 @@ public class PlayingCard implements Comparable<PlayingCard> {
         this.cardValue = cardValue;
     }
 
-    public boolean isTrumpSuit() {
-        return isTrumpSuit;
+    /**
+     * Creating the 20 playing cards and the PlaceHolder card with the provided enums
+     * @return the cards indexed by the ordinal of their name
+     */
+    private static PlayingCard[] createDeck() {
+        SchnapsenBoard.CardSuit[] suits = SchnapsenBoard.CardSuit.values();
+        SchnapsenBoard.CardName[] names = SchnapsenBoard.CardName.values();
+        PlayingCard[] deck = new PlayingCard[names.length];
+        for (int card = 0; card < names.length; card++) {
+            deck[card] = new PlayingCard(suits[SchnapsenBoard.suitOf(card)], names[card], SchnapsenBoard.valueOf(card));
+        }
+        return deck;
+    }
+
+    /**
+     * Returns the shared card with the given name
+     * @param cardName the name of the card
+     * @return the PlayingCard of this name
+     */
+    public static PlayingCard of(SchnapsenBoard.CardName cardName) {
+        if (cardName == null) {
+            throw new IllegalArgumentException("Card name cannot be null");
+        }
+        return DECK[cardName.ordinal()];
     }
 
-    public void setIsTrumpSuit(boolean trumpSuit) {
-        this.isTrumpSuit = trumpSuit;
+    /**
+     * Returns the shared card with the given index
+     * @param card the index of the card (ordinal of its name)
+     * @return the PlayingCard of this index
+     */
+    static PlayingCard of(int card) {
+        return DECK[card];
     }
 
     public SchnapsenBoard.CardSuit getSuit() {
@@ -50,12 +79,16 @@ public class PlayingCard implements Comparable<PlayingCard> {
         return cardValue;
     }
 
-    public void setPossibleMarriage(PlayingCard possibleMarriage) {
-        this.possibleMarriage = possibleMarriage;
-    }
-
+    /**
+     * Returns the card this card could be married with
+     * @return the King for a Queen and the other way around, null for all other cards
+     */
     public PlayingCard getPossibleMarriage() {
-        return possibleMarriage;
+        int partner = SchnapsenBoard.marriagePartner(cardName.ordinal());
+        if (partner == SchnapsenBoard.NO_CARD) {
+            return null;
+        }
+        return DECK[partner];
     }
 
     @Override
@@ -84,22 +117,17 @@ public class PlayingCard implements Comparable<PlayingCard> {
         return Objects.hash(suit, cardName, cardValue);
     }
 
+  /**
+   * Cards are ordered by suit and then by descending value, the trump suit is not known to a card,
+   * which is why boards sort trump cards first on their own
+   */
   @Override
   public int compareTo(PlayingCard o) {
       if(o!=null) {
         //Order cards based on their value
         if (o.getSuit() == suit) {
          return Integer.compare(o.getCardValue(), cardValue);
-        } else {
-
-          //Sort Trump cards first
-          if(o.isTrumpSuit())
-            return 1;
-          }
-
-          if(this.isTrumpSuit) {
-            return -1;
-          }
+        }
 
           //sort based on suit order
           return suit.compareTo(o.getSuit());
@@ -6,7 +6,8 @@
 
 package game.board;
 
-import java.io.*;
+import game.action.SchnapsenAction;
+
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -149,26 +150,94 @@ public class SchnapsenBoard {
         }
     }
 
-    //Random object that controls the shuffling of cards
-    private Random random;
-
-    //These lists track the drafting pile and the players cards
-    private LinkedList<PlayingCard> playingCardPile = new LinkedList<>();
-    private List<PlayingCard> player0Cards = new ArrayList<>();
-    private List<PlayingCard> player1Cards = new ArrayList<>();
-
-    //In this List the Tricks taken by the player are stored in pairs
-    private List<PlayingCard[]> player0Tricks = new ArrayList<>();
-    private List<PlayingCard[]> player1Tricks = new ArrayList<>();
+    //Every card is identified by the ordinal of its CardName (0-19), the PlaceHolder card of hidden information has the index 20.
+    //Sets of cards are stored as bitmasks over these indices and single cards as a byte holding the index, NO_CARD stands for no card
+    static final int CARD_COUNT = 20;
+    static final int ALL_CARDS = (1 << CARD_COUNT) - 1;
+    static final int PLACEHOLDER = 20;
+    static final int NO_CARD = -1;
+
+    //Card sequences (drawing pile and tricks) are packed into longs with 5 bits per card index
+    static final int CARD_BITS = 5;
+    static final long CARD_BITS_MASK = (1L << CARD_BITS) - 1;
+
+    //Each trick is stored with 11 bits: the following card, the leading card and the id of the player who took the trick
+    private static final int TRICK_BITS = 2 * CARD_BITS + 1;
+    private static final int TRICKS_PER_LONG = 5;
+
+    //The values of the cards of one suit in the order of the CardName enum: Jack, Queen, King, Ten, Ace
+    private static final int[] CARD_VALUES = {2, 3, 4, 10, 11};
+
+    //Points of every combination of the five cards of a suit, indexed by the five bits of the suit in a card bitmask
+    private static final int[] SUIT_POINTS = createSuitPoints();
+    private static final int TOTAL_POINTS = 120;
+    private static final int WINNING_SCORE = 66;
+
+    //Every part of the state gets its own id in the Zobrist key, the values of a part are mixed with its id to form the random keys.
+    //Cards are keyed by their location, cards of the pile by their position counted from the bottom of the pile
+    private static final int KEY_HAND = 0;
+    private static final int KEY_HIDDEN = 2;
+    private static final int KEY_TRICKS = 4;
+    private static final int KEY_SCORE = 6;
+    private static final int KEY_MARRIAGE_TEMP_SCORE = 8;
+    private static final int KEY_BUMMERL = 10;
+    private static final int KEY_BUMMERL_AMOUNT = 12;
+    private static final int KEY_TRUMP = 14;
+    private static final int KEY_OLD_TRUMP = 15;
+    private static final int KEY_LEADING = 16;
+    private static final int KEY_MARRIAGE_DECLARED = 17;
+    private static final int KEY_DECLARED_MARRIAGES = 18;
+    private static final int KEY_TALON_CLOSING = 19;
+    private static final int KEY_TALON_CLOSED_SCORE = 20;
+    private static final int KEY_STARTING_PLAYER = 21;
+    private static final int KEY_TURN = 22;
+    private static final int KEY_BUMMERL_MAX = 23;
+    private static final int KEY_PILE = 24;
+
+    //A board is encoded into three longs, every card is in one of six locations
+    public static final int ENCODED_LONGS = 3;
+    private static final int LOCATION_HAND = 0;
+    private static final int LOCATION_PILE = 2;
+    private static final int LOCATION_TRICKS = 3;
+    private static final int LOCATION_LEADING = 5;
+    private static final int LOCATION_COUNT = 6;
+
+    //Locations of a card in the signature of its suit, cards in the pile are located by their position
+    private static final int SIGNATURE_HAND = 0;
+    private static final int SIGNATURE_TRICKS = 2;
+    private static final int SIGNATURE_LEADING = 4;
+    private static final int SIGNATURE_PILE = 5;
+    private static final int SIGNATURE_UNKNOWN = 15;
+
+    //The deal of every round is a pure function of the seed of the game and the index of the round,
+    //so copies of a board deal the same cards without drawing from a shared random object
+    private long gameSeed;
+    private int roundIndex;
+
+    //These bitmasks track the players cards, cards replaced by a PlaceHolder (hidden information) are only counted
+    private int player0Cards;
+    private int player1Cards;
+    private byte player0HiddenCards;
+    private byte player1HiddenCards;
+
+    //The drawing pile stores its cards in order, the card drawn next is stored in the lowest 5 bits and the trump card at the bottom
+    private long playingCardPile;
+    private byte playingCardPileSize;
+
+    //These bitmasks track the tricks taken by the players, the tricks themselves are stored in pairs (in the order they were played) in the trick history
+    private int player0Tricks;
+    private int player1Tricks;
+    private long trickHistory;
+    private long trickHistoryTail;
 
     //This is the current round score (when on player reaches 66, the round is over)
-    private int player0Score;
-    private int player1Score;
+    private byte player0Score;
+    private byte player1Score;
 
     //A typical game of Schnapsen is finished when one player gets an overall score of 7 or higher known as a "Bummerl"
     //It is typical to count down from 7, therefore remove the winning points from the score
-    private int player0Bummerl = 7;
-    private int player1Bummerl = 7;
+    private byte player0Bummerl = 7;
+    private byte player1Bummerl = 7;
 
     //One can set the amount of Bummerl to be played, when creating a board
     //A Bummerl is given to the losing player of each round.
@@ -179,86 +248,67 @@ public class SchnapsenBoard {
 
     //Score for marriages only gets added if the player has made any tricks
     //These variables help in tracking if there are any marriage points not yet scored
-    private int player0MarriageTempScore;
-    private int player1MarriageTempScore;
+    private byte player0MarriageTempScore;
+    private byte player1MarriageTempScore;
 
     //This variable checks if a marriage was declared, therefore one would have to play one of the two marriage partners
-    private PlayingCard marriageCardDeclared;
+    private byte marriageCardDeclared = NO_CARD;
 
     //Keep track of all declared marriages by the players this round -> this Information is public
-    private List<PlayingCard> player0Marriages = new ArrayList<>();
-    private List<PlayingCard> player1Marriages = new ArrayList<>();
+    //Bit 0-3 are the suits of the marriages of player 0, bit 4-7 the ones of player 1
+    private byte declaredMarriages;
 
-    //These variables help in the talon closing logic of the board
+    //These variables help in the talon closing logic of the board, the talon is closed as soon as a closing player is set
     //The id of the closing player is tracked as well as the score of the non-closing player
     //This score has an impact on the amount of points deducted of the current Bummerl, after the round is over
-    private boolean talonClosed = false;
-    private int talonClosingPlayerId = -1;
-    private int talonClosedEnemyScore;
+    private byte talonClosingPlayerId = -1;
+    private byte talonClosedEnemyScore;
 
-    //These variables help in tracking the trump card and the trump suit
-    private PlayingCard trumpCard;
-    private CardSuit trumpSuit;
+    //This variable tracks the trump card, the trump suit is always the suit of the trump card
+    private byte trumpCard = NO_CARD;
 
     //Keep track of the old trump card in case of an "exchange"
-    private PlayingCard oldTrumpCard;
+    private byte oldTrumpCard = NO_CARD;
 
     //When one player plays a card it is no longer in their hand, but untill the other player plays their card and the trick is resovled
     //the lead card is tracked in this variable
-    private PlayingCard leadingCard;
+    private byte leadingCard = NO_CARD;
+
+    //Cards in the hands of the players that the opponent has seen: exchanged trump cards, declared marriages and the last card of the pile.
+    //They are updated with every move, so card counting only needs a few bitmask operations, and they stay known when a view hides the hand.
+    //Like the order of the tricks they are history and not part of equals
+    private int player0ShownCards;
+    private int player1ShownCards;
+
+    //Debug switch of doTrustedAction, every trusted action is compared to the validating methods.
+    //It is volatile as the worker threads of a running search read it
+    private static volatile boolean verifyTrusted = Boolean.getBoolean("schnapsen.verifyTrusted");
+
+    //The possible actions of the current state, computed on the first query and dropped by every change of the board
+    private Set<SchnapsenAction> possibleActions;
 
     //These variables help in tracking whose turn it is to be starting a round and which players turn it is
-    private int startingPlayer;
-    private int playerTurnId;
+    private byte startingPlayer;
+    private byte playerTurnId;
+
+    //Zobrist key of the state, it is updated with every change of the state instead of being recomputed
+    private long zobristKey;
+
+    //Stack of the states before each action applied with apply(), the frames are reused so search can apply and undo actions without allocating
+    private SchnapsenBoard[] undoFrames;
+    private int undoFrameCount;
 
     /**
-     * Creating the playing cards and adding them to the playing card pile with the provided enums
+     * Creating the indices of the playing cards in the order of the provided enums
+     * @return an array containing every card index once
      */
-    private void createCards()
+    private int[] createCards()
     {
-        playingCardPile.add(new PlayingCard(CardSuit.SPADES, CardName.JackOfSpades, 2));
-        //Adding possible marriages to the spades cards
-        PlayingCard queenSpades = new PlayingCard(CardSuit.SPADES, CardName.QueenOfSpades, 3);
-        PlayingCard kingSpades = new PlayingCard(CardSuit.SPADES, CardName.KingOfSpades, 4);
-        queenSpades.setPossibleMarriage(kingSpades);
-        kingSpades.setPossibleMarriage(queenSpades);
-        playingCardPile.add(queenSpades);
-        playingCardPile.add(kingSpades);
-        playingCardPile.add(new PlayingCard(CardSuit.SPADES, CardName.TenOfSpades, 10));
-        playingCardPile.add(new PlayingCard(CardSuit.SPADES, CardName.AceOfSpades, 11));
-
-        playingCardPile.add(new PlayingCard(CardSuit.HEARTS, CardName.JackOfHearts, 2));
-        //Adding possible marriages to the hearts cards
-        PlayingCard queenHearts = new PlayingCard(CardSuit.HEARTS, CardName.QueenOfHearts, 3);
-        PlayingCard kingHearts = new PlayingCard(CardSuit.HEARTS, CardName.KingOfHearts, 4);
-        queenHearts.setPossibleMarriage(kingHearts);
-        kingHearts.setPossibleMarriage(queenHearts);
-        playingCardPile.add(queenHearts);
-        playingCardPile.add(kingHearts);
-        playingCardPile.add(new PlayingCard(CardSuit.HEARTS, CardName.TenOfHearts, 10));
-        playingCardPile.add(new PlayingCard(CardSuit.HEARTS, CardName.AceOfHearts, 11));
-
-        playingCardPile.add(new PlayingCard(CardSuit.DIAMONDS, CardName.JackOfDiamonds, 2));
-        //Adding possible marriages to the hearts cards
-        PlayingCard queenDiamonds = new PlayingCard(CardSuit.DIAMONDS, CardName.QueenOfDiamonds, 3);
-        PlayingCard kingDiamonds = new PlayingCard(CardSuit.DIAMONDS, CardName.KingOfDiamonds, 4);
-        queenDiamonds.setPossibleMarriage(kingDiamonds);
-        kingDiamonds.setPossibleMarriage(queenDiamonds);
-        playingCardPile.add(queenDiamonds);
-        playingCardPile.add(kingDiamonds);
-        playingCardPile.add(new PlayingCard(CardSuit.DIAMONDS, CardName.TenOfDiamonds, 10));
-        playingCardPile.add(new PlayingCard(CardSuit.DIAMONDS, CardName.AceOfDiamonds, 11));
-
-        playingCardPile.add(new PlayingCard(CardSuit.CLUBS, CardName.JackOfClubs, 2));
-        //Adding possible marriages to the hearts cards
-        PlayingCard queenClubs = new PlayingCard(CardSuit.CLUBS, CardName.QueenOfClubs, 3);
-        PlayingCard kingClubs = new PlayingCard(CardSuit.CLUBS, CardName.KingOfClubs, 4);
-        queenClubs.setPossibleMarriage(kingClubs);
-        kingClubs.setPossibleMarriage(queenClubs);
-        playingCardPile.add(queenClubs);
-        playingCardPile.add(kingClubs);
-        playingCardPile.add(new PlayingCard(CardSuit.CLUBS, CardName.TenOfClubs, 10));
-        playingCardPile.add(new PlayingCard(CardSuit.CLUBS, CardName.AceOfClubs, 11));
+        int[] cards = new int[CARD_COUNT];
+        for (int card = 0; card < CARD_COUNT; card++) {
+            cards[card] = card;
+        }
+        return cards;
     }
 
     /**
@@ -266,14 +316,11 @@ public class SchnapsenBoard {
      */
     private void roundInitialisation() {
 
-        if(playingCardPile.isEmpty())
-        {
-            createCards();
-        }
-        shuffleCards();
-        createTrumpCard();
-        passCards(startingPlayer, 5);
-
+        int[] cards = createCards();
+        shuffleCards(cards);
+        dealCards(cards, startingPlayer);
+        createTrumpCard(cards);
+        zobristKey = computeZobristKey();
     }
 
     /**
@@ -286,50 +333,60 @@ public class SchnapsenBoard {
     /**
      * Initialize the Schnapsen board with a random object for seed manipulation
      *
-     * @param random object that manipulates the shuffling of the deck
+     * @param random object that draws the seed of the game, it is not used after the constructor
      */
     public SchnapsenBoard(Random random) {
-        if (random == null) {
-            throw new IllegalArgumentException("Random object cannot be null");
-        }
-        startingPlayer = 0;
-        playerTurnId = startingPlayer;
-        this.random = random;
-        roundInitialisation();
-
+        this(seedOf(random), 1);
     }
 
     /**
      * Create a board based on an amount of Bummerl and a random object
-     * @param random object that manipulates shuffling of the deck
+     * @param random object that draws the seed of the game, it is not used after the constructor
      * @param bummerlMax states how many Bummerl the game will last
      */
     public SchnapsenBoard(Random random, int bummerlMax) {
-        if (random == null) {
-            throw new IllegalArgumentException("Random object cannot be null");
-        }
+        this(seedOf(random), bummerlMax);
+    }
+
+    /**
+     * Create a board based on an amount of Bummerl and the seed of the game,
+     * the deal of every round only depends on the seed and the number of rounds played before
+     * @param gameSeed the seed of the game
+     * @param bummerlMax states how many Bummerl the game will last
+     */
+    public SchnapsenBoard(long gameSeed, int bummerlMax) {
         if (bummerlMax < 1) {
             throw new IllegalArgumentException("The max of Bummerl can not be lower than 1");
         }
         this.startingPlayer = 0;
         this.playerTurnId = startingPlayer;
-        this.random = random;
+        this.gameSeed = gameSeed;
         this.bummerlMax = bummerlMax;
         roundInitialisation();
     }
 
     /**
-     * This constructor is used for deep copying the given Schnapsen Board
+     * This constructor is used for deep copying the given Schnapsen Board, the copy deals the same rounds as the given board
+     * and the given board is not changed
      * @param schnapsenBoard the Schnapsen Board to be deeply copied into the new one
      */
     public SchnapsenBoard(SchnapsenBoard schnapsenBoard) {
-      if(schnapsenBoard == null) throw new IllegalArgumentException("board to be copied cannot be null");
-        this(schnapsenBoard.player0Cards, schnapsenBoard.player1Cards, schnapsenBoard.playingCardPile, schnapsenBoard.player0Tricks,
-                schnapsenBoard.player1Tricks, schnapsenBoard.startingPlayer, schnapsenBoard.playerTurnId, schnapsenBoard.random, schnapsenBoard.player0MarriageTempScore,
-                schnapsenBoard.player1MarriageTempScore, schnapsenBoard.player0Bummerl, schnapsenBoard.player1Bummerl, schnapsenBoard.player0Score, schnapsenBoard.player1Score,
-                schnapsenBoard.talonClosingPlayerId, schnapsenBoard.talonClosedEnemyScore, schnapsenBoard.talonClosed, schnapsenBoard.leadingCard,
-                schnapsenBoard.trumpCard, schnapsenBoard.trumpSuit,schnapsenBoard.marriageCardDeclared, schnapsenBoard.bummerlMax, schnapsenBoard.player0BummerlAmount, schnapsenBoard.player1BummerlAmount,
-                schnapsenBoard.player0Marriages, schnapsenBoard.player1Marriages, schnapsenBoard.oldTrumpCard);
+        if (schnapsenBoard == null) {
+            throw new IllegalArgumentException("board to be copied cannot be null");
+        }
+        copyStateFrom(schnapsenBoard);
+    }
+
+    /**
+     * helper method to draw the seed of a game
+     * @param random the random object given to a constructor
+     * @return the seed of the game
+     */
+    private static long seedOf(Random random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random object cannot be null");
+        }
+        return random.nextLong();
     }
 
 
@@ -341,19 +398,18 @@ public class SchnapsenBoard {
      * @param playingCardPile the playing card pile to be used by the new board
      */
     public SchnapsenBoard(SchnapsenBoard otherBoard, List<PlayingCard> player0Cards, List<PlayingCard> player1Cards, LinkedList<PlayingCard> playingCardPile) {
-      if (otherBoard == null) throw new IllegalArgumentException("The passed board cannot be null");
-      if (player0Cards == null) throw new IllegalArgumentException("player0Cards cannot be null");
-      if (player1Cards == null) throw new IllegalArgumentException("player1Cards cannot be null");
-      if (playingCardPile == null) throw new IllegalArgumentException("playingCardPile cannot be null");
-
-      this(player0Cards, player1Cards, playingCardPile, otherBoard.player0Tricks, otherBoard.player1Tricks, otherBoard.startingPlayer, otherBoard.playerTurnId, otherBoard.random,
-                otherBoard.player0MarriageTempScore, otherBoard.player1MarriageTempScore, otherBoard.player0Bummerl, otherBoard.player1Bummerl, otherBoard.player0Score, otherBoard.player1Score,
-                otherBoard.talonClosingPlayerId, otherBoard.talonClosedEnemyScore, otherBoard.talonClosed, otherBoard.leadingCard, otherBoard.trumpCard, otherBoard.trumpSuit,
-                otherBoard. marriageCardDeclared, otherBoard.bummerlMax, otherBoard.player0BummerlAmount, otherBoard.player1BummerlAmount, otherBoard.player0Marriages, otherBoard.player1Marriages, otherBoard.oldTrumpCard);
+        if (otherBoard == null) throw new IllegalArgumentException("The passed board cannot be null");
+        if (player0Cards == null) throw new IllegalArgumentException("player0Cards cannot be null");
+        if (player1Cards == null) throw new IllegalArgumentException("player1Cards cannot be null");
+        if (playingCardPile == null) throw new IllegalArgumentException("playingCardPile cannot be null");
+
+        copyStateFrom(otherBoard);
+        setCards(player0Cards, player1Cards, playingCardPile);
+        this.zobristKey = computeZobristKey();
     }
 
     /**
-     * Creates a deep copy of a Schnapsen board based on the inputs given, the new board also features new Cards
+     * Creates a deep copy of a Schnapsen board based on the inputs given
      */
     public SchnapsenBoard(List<PlayingCard> player0Cards,
                           List<PlayingCard> player1Cards,
@@ -385,480 +441,1074 @@ public class SchnapsenBoard {
 
                           ) {
 
-        this.createCards();
+        //the trump suit is part of the trump card and does not have to be stored separately
+        setCards(player0Cards, player1Cards, playingCardPile);
 
-        this.player0Cards = new ArrayList<>();
-        this.player1Cards = new ArrayList<>();
-        this.player0Tricks = new ArrayList<>();
-        this.player1Tricks = new ArrayList<>();
-        List<PlayingCard> newPile = new ArrayList<>(this.playingCardPile);
-        this.playingCardPile.clear();
-
-        this.trumpCard = findCardInPile(newPile, trumpCard);
-        this.trumpCard.setIsTrumpSuit(true);
-        if (marriageCardDeclared != null){
-            this.marriageCardDeclared = findCardInPile(newPile, marriageCardDeclared);
-            this.marriageCardDeclared.setIsTrumpSuit(marriageCardDeclared.isTrumpSuit());
+        int trickIndex = 0;
+        for (PlayingCard[] trick : player0Tricks) {
+            addTrick(trickIndex++, indexOf(trick[0]), indexOf(trick[1]), 0);
         }
-
-        if(oldTrumpCard != null){
-            this.oldTrumpCard = findCardInPile(newPile, oldTrumpCard);
-            this.oldTrumpCard.setIsTrumpSuit(true);
+        for (PlayingCard[] trick : player1Tricks) {
+            addTrick(trickIndex++, indexOf(trick[0]), indexOf(trick[1]), 1);
         }
 
-        if (leadingCard != null){
-            this.leadingCard = findCardInPile(newPile, leadingCard);
-            this.leadingCard.setIsTrumpSuit(leadingCard.isTrumpSuit());
+        for (PlayingCard card : player0Marriages) {
+            declaredMarriages |= (byte) (1 << suitOf(indexOf(card)));
         }
-
-        for(PlayingCard playingCard : player0Cards)
-        {
-            PlayingCard foundCard = findCardInPile(newPile, playingCard);
-            foundCard.setIsTrumpSuit(playingCard.isTrumpSuit());
-            this.player0Cards.add(foundCard);
+        for (PlayingCard card : player1Marriages) {
+            declaredMarriages |= (byte) (1 << (4 + suitOf(indexOf(card))));
         }
 
-        for(PlayingCard playingCard : player1Cards)
-        {
-            PlayingCard foundCard = findCardInPile(newPile, playingCard);
-            foundCard.setIsTrumpSuit(playingCard.isTrumpSuit());
-            this.player1Cards.add(foundCard);
-        }
+        this.trumpCard = (byte) indexOf(trumpCard);
+        this.marriageCardDeclared = (byte) indexOf(marriageCardDeclared);
+        this.oldTrumpCard = (byte) indexOf(oldTrumpCard);
+        this.leadingCard = (byte) indexOf(leadingCard);
+
+        this.startingPlayer = (byte) startingPlayer;
+        this.playerTurnId = (byte) playerTurnId;
+        this.gameSeed = seedOf(random);
+        this.player0MarriageTempScore = (byte) player0MarriageTempScore;
+        this.player1MarriageTempScore = (byte) player1MarriageTempScore;
+        this.player0Bummerl = (byte) player0Bummerl;
+        this.player1Bummerl = (byte) player1Bummerl;
+        this.player0Score = (byte) player0Score;
+        this.player1Score = (byte) player1Score;
+        this.talonClosingPlayerId = (byte) (talonClosed ? talonClosingPlayerId : -1);
+        this.talonClosedEnemyScore = (byte) talonClosedEnemyScore;
+        this.bummerlMax = bummerlMax;
+        this.player0BummerlAmount = player0BummerlAmount;
+        this.player1BummerlAmount = player1BummerlAmount;
+        deriveShownCards();
+        this.zobristKey = computeZobristKey();
+    }
 
-        for(PlayingCard playingCard : playingCardPile)
-        {
-            PlayingCard foundCard = findCardInPile(newPile, playingCard);
-            foundCard.setIsTrumpSuit(playingCard.isTrumpSuit());
-            this.playingCardPile.add(foundCard);
-        }
+    /**
+     * Copies the complete state of the game from another board, a few field assignments are enough as there are no card objects to be copied
+     * @param other the board to copy the state from
+     */
+    private void copyStateFrom(SchnapsenBoard other) {
+        this.player0Cards = other.player0Cards;
+        this.player1Cards = other.player1Cards;
+        this.player0HiddenCards = other.player0HiddenCards;
+        this.player1HiddenCards = other.player1HiddenCards;
+        this.playingCardPile = other.playingCardPile;
+        this.playingCardPileSize = other.playingCardPileSize;
+        this.player0Tricks = other.player0Tricks;
+        this.player1Tricks = other.player1Tricks;
+        this.trickHistory = other.trickHistory;
+        this.trickHistoryTail = other.trickHistoryTail;
+        this.player0Score = other.player0Score;
+        this.player1Score = other.player1Score;
+        this.player0Bummerl = other.player0Bummerl;
+        this.player1Bummerl = other.player1Bummerl;
+        this.bummerlMax = other.bummerlMax;
+        this.player0BummerlAmount = other.player0BummerlAmount;
+        this.player1BummerlAmount = other.player1BummerlAmount;
+        this.player0MarriageTempScore = other.player0MarriageTempScore;
+        this.player1MarriageTempScore = other.player1MarriageTempScore;
+        this.marriageCardDeclared = other.marriageCardDeclared;
+        this.declaredMarriages = other.declaredMarriages;
+        this.talonClosingPlayerId = other.talonClosingPlayerId;
+        this.talonClosedEnemyScore = other.talonClosedEnemyScore;
+        this.trumpCard = other.trumpCard;
+        this.oldTrumpCard = other.oldTrumpCard;
+        this.leadingCard = other.leadingCard;
+        this.player0ShownCards = other.player0ShownCards;
+        this.player1ShownCards = other.player1ShownCards;
+        //the actions of an equal state are the same, so undo restores them as well
+        this.possibleActions = other.possibleActions;
+        this.startingPlayer = other.startingPlayer;
+        this.playerTurnId = other.playerTurnId;
+        this.gameSeed = other.gameSeed;
+        this.roundIndex = other.roundIndex;
+        this.zobristKey = other.zobristKey;
+    }
 
-        for(PlayingCard[] playingCardArray : player0Tricks)
-        {
-            PlayingCard foundCard0 = findCardInPile(newPile, playingCardArray[0]);
-            PlayingCard foundCard1 = findCardInPile(newPile, playingCardArray[1]);
-            foundCard1.setIsTrumpSuit(playingCardArray[0].isTrumpSuit());
-            foundCard0.setIsTrumpSuit(playingCardArray[1].isTrumpSuit());
-            this.player0Tricks.add(new PlayingCard[]{foundCard0, foundCard1});
+    /**
+     * helper method to replace the players hands and the drawing pile with the given cards
+     * @param player0Cards the cards of player 0
+     * @param player1Cards the cards of player 1
+     * @param playingCardPile the drawing pile, the first card of the list is drawn next
+     */
+    private void setCards(List<PlayingCard> player0Cards, List<PlayingCard> player1Cards, List<PlayingCard> playingCardPile) {
+        possibleActions = null;
+        this.player0Cards = 0;
+        this.player1Cards = 0;
+        this.player0HiddenCards = 0;
+        this.player1HiddenCards = 0;
+        for (PlayingCard card : player0Cards) {
+            addToHand(0, indexOf(card));
         }
-
-        for(PlayingCard[] playingCardArray : player1Tricks)
-        {
-            PlayingCard foundCard0 = findCardInPile(newPile, playingCardArray[0]);
-            PlayingCard foundCard1 = findCardInPile(newPile, playingCardArray[1]);
-            foundCard1.setIsTrumpSuit(playingCardArray[0].isTrumpSuit());
-            foundCard0.setIsTrumpSuit(playingCardArray[1].isTrumpSuit());
-            this.player1Tricks.add(new PlayingCard[]{foundCard0, foundCard1});
+        for (PlayingCard card : player1Cards) {
+            addToHand(1, indexOf(card));
         }
 
-        for(PlayingCard card : player0Marriages)
-        {
-            PlayingCard foundCard = findCardInPile(newPile, card);
-            foundCard.setIsTrumpSuit(card.isTrumpSuit());
-            this.player0Marriages.add(card);
+        this.playingCardPile = 0;
+        this.playingCardPileSize = 0;
+        for (PlayingCard card : playingCardPile) {
+            this.playingCardPile |= (long) indexOf(card) << (CARD_BITS * playingCardPileSize++);
         }
+    }
 
-        for(PlayingCard card : player1Marriages)
-        {
-            PlayingCard foundCard = findCardInPile(newPile, card);
-            foundCard.setIsTrumpSuit(card.isTrumpSuit());
-            this.player1Marriages.add(foundCard);
-        }
-
-
-
-        this.startingPlayer = startingPlayer;
-        this.playerTurnId = playerTurnId;
-        this.random = new Random(random.nextLong());
-        this.player0MarriageTempScore = player0MarriageTempScore;
-        this.player1MarriageTempScore = player1MarriageTempScore;
-        this.player0Bummerl = player0Bummerl;
-        this.player1Bummerl = player1Bummerl;
-        this.player0Score = player0Score;
-        this.player1Score = player1Score;
-        this.talonClosingPlayerId = talonClosingPlayerId;
-        this.talonClosedEnemyScore = talonClosedEnemyScore;
-        this.talonClosed = talonClosed;
-        this.trumpSuit = trumpSuit;
-        this.bummerlMax = bummerlMax;
-        this.player0BummerlAmount = player0BummerlAmount;
-        this.player1BummerlAmount = player1BummerlAmount;
+    /**
+     * helper method to get the index of a card, which is the ordinal of its name
+     * @param card the card to be looked up, can be null
+     * @return the index of the card or NO_CARD if the card is null
+     */
+    static int indexOf(PlayingCard card) {
+        return card == null ? NO_CARD : card.getCardName().ordinal();
     }
 
     /**
-     * helper method to get the first card equal to the specified card from a pile
-     * @param pile the playing card pile to be searched
-     * @param targetCard the card to be found
-     * @return PlayingCard matching the search card from the pile
+     * Returns the suit of a card index as an ordinal of CardSuit, PlaceHolder cards count as spades
+     * @param card index of the card
+     * @return ordinal of the card's suit
      */
-    private PlayingCard findCardInPile(List<PlayingCard> pile, PlayingCard targetCard){
-        if (pile == null || targetCard == null) {
-            return null;
-        }
-        if(targetCard.getCardName() == CardName.PlaceHolder) {
-            return new PlayingCard(CardSuit.SPADES,CardName.PlaceHolder,0);
-        }
-        return pile.stream().filter(p -> p.equals(targetCard)).findFirst().orElse(null);
+    static int suitOf(int card) {
+        return card == PLACEHOLDER ? 0 : card / 5;
     }
 
     /**
-     * Shuffling cards based on stored random object
+     * Returns the value of a card index, PlaceHolder cards have a value of 0
+     * @param card index of the card
+     * @return points the card is worth in a trick
      */
-    private void shuffleCards() {
-        Collections.shuffle(playingCardPile, random);
+    static int valueOf(int card) {
+        return card == PLACEHOLDER ? 0 : CARD_VALUES[card % 5];
     }
 
     /**
-     * This method sets the trumpCard and the trump suit, if it is not set yet.
-     * The card will then be added as the last card in the card pile.
-     * The other cards of this suit will be updated to state they are of the trump suit
+     * Returns the bitmask of all cards of a suit
+     * @param suit ordinal of the suit
+     * @return bitmask with the five cards of the suit
      */
-    private void createTrumpCard() {
-        if (trumpCard == null) {
-            trumpCard = playingCardPile.get(10);
-            playingCardPile.remove(trumpCard);
-            playingCardPile.addLast(trumpCard);
-            trumpSuit = trumpCard.getSuit();
-        }
+    static int suitMask(int suit) {
+        return 0b11111 << (CARD_BITS * suit);
+    }
 
+    /**
+     * Returns the bit of a card index in a card bitmask, PlaceHolder cards have no bit
+     * @param card index of the card
+     * @return the bit of the card, 0 for PlaceHolder cards
+     */
+    static int bit(int card) {
+        return card == PLACEHOLDER ? 0 : 1 << card;
+    }
 
-        for (PlayingCard card : playingCardPile) {
-            if (card.getSuit() == trumpSuit) {
-                card.setIsTrumpSuit(true);
-            }
+    /**
+     * Returns the bitmask of all cards of the same suit that would win against the given card
+     * @param card index of the card
+     * @return bitmask of the higher cards of the same suit
+     */
+    static int higherCards(int card) {
+        if (card == PLACEHOLDER) {
+            return suitMask(0);
         }
+        return suitMask(card / 5) & -(1 << (card + 1));
     }
 
     /**
-     * Passing cards from the pile to the players, first to the player with the given id
-     *
-     * @param playerId      players id that receives the card first
-     * @param numberOfCards number of cards that are passed out
+     * Returns the marriage partner of a card index
+     * @param card index of the card
+     * @return the index of the King for a Queen and the other way around, NO_CARD for all other cards
      */
-    private void passCards(int playerId, int numberOfCards) {
-        if (playerId != 0 && playerId != 1) {
-            throw new IllegalArgumentException("playerId must be 0 or 1");
+    static int marriagePartner(int card) {
+        if (card == PLACEHOLDER) {
+            return NO_CARD;
         }
-        if (!talonClosed && !playingCardPile.isEmpty()) {
-            for (int i = 0; i < numberOfCards; i++) {
+        return switch (card % 5) {
+            case 1 -> card + 1;
+            case 2 -> card - 1;
+            default -> NO_CARD;
+        };
+    }
 
-                if (playerId == 0) {
-                    player0Cards.add(playingCardPile.pop());
-                    player1Cards.add(playingCardPile.pop());
-                } else {
-                    player1Cards.add(playingCardPile.pop());
-                    player0Cards.add(playingCardPile.pop());
-                }
-            }
-        } else throw new IllegalStateException("Can not pass cards, when talon is closed or pile is empty!");
+    /**
+     * Returns the random key of a value of one part of the state, the value is mixed with the id of the part by the SplitMix64 finalizer
+     * @param part the id of the part of the state
+     * @param value the value of the part
+     * @return the 64 bit key to be xor-ed into the Zobrist key
+     */
+    private static long key(int part, int value) {
+        long z = ((long) part << 32 | value & 0xFFFFFFFFL) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
     /**
-     * Player plays a card on the board, includes logic for who takes the trick if the played card is not the leading card
-     * <p>
-     * If the playing card pile is empty or the talon was closed,
-     * the following card has to have the same color of the leading card and one is obliged to take the trick if possible.
-     * These rules are enforced by throwing exceptions if broken
-     * <p>
-     * Trick is scored and added to the tricks taken pile of the player in the end.
-     *
-     * @param playerId id of player playing the card
-     * @param card the card the player wants to play
+     * Computes the Zobrist key of the complete state from scratch, this is only needed after dealing or replacing cards
+     * @return the Zobrist key of the state
      */
-    public void playCard(int playerId, PlayingCard card) {
-        if (playerId != 0 && playerId != 1) {
-            throw new IllegalArgumentException("playerId must be 0 or 1");
+    private long computeZobristKey() {
+        long zobrist = 0;
+        for (int playerId = 0; playerId < 2; playerId++) {
+            for (int cards = hand(playerId); cards != 0; cards &= cards - 1) {
+                zobrist ^= key(KEY_HAND + playerId, Integer.numberOfTrailingZeros(cards));
+            }
+            for (int cards = playerId == 0 ? player0Tricks : player1Tricks; cards != 0; cards &= cards - 1) {
+                zobrist ^= key(KEY_TRICKS + playerId, Integer.numberOfTrailingZeros(cards));
+            }
+            zobrist ^= key(KEY_HIDDEN + playerId, hiddenCards(playerId));
         }
-        if (card == null) {
-            throw new IllegalArgumentException("card cannot be null");
+        //the top card of the pile is stored in the lowest bits, but keyed by its position from the bottom
+        for (int i = 0; i < playingCardPileSize; i++) {
+            zobrist ^= key(KEY_PILE + playingCardPileSize - 1 - i, (int) (playingCardPile >>> (CARD_BITS * i) & CARD_BITS_MASK));
         }
-       if (playerTurnId == playerId) {
-            List<PlayingCard> playerCards;
-            if (playerId == 0) {
-                playerCards = player0Cards;
-            } else {
-                playerCards = player1Cards;
-            }
-
-            if (playerCards.contains(card)) {
-                if (leadingCard == null) {
+        zobrist ^= key(KEY_SCORE, player0Score) ^ key(KEY_SCORE + 1, player1Score)
+                ^ key(KEY_MARRIAGE_TEMP_SCORE, player0MarriageTempScore) ^ key(KEY_MARRIAGE_TEMP_SCORE + 1, player1MarriageTempScore)
+                ^ key(KEY_BUMMERL, player0Bummerl) ^ key(KEY_BUMMERL + 1, player1Bummerl)
+                ^ key(KEY_BUMMERL_AMOUNT, player0BummerlAmount) ^ key(KEY_BUMMERL_AMOUNT + 1, player1BummerlAmount)
+                ^ key(KEY_TRUMP, trumpCard) ^ key(KEY_OLD_TRUMP, oldTrumpCard)
+                ^ key(KEY_LEADING, leadingCard) ^ key(KEY_MARRIAGE_DECLARED, marriageCardDeclared)
+                ^ key(KEY_DECLARED_MARRIAGES, declaredMarriages)
+                ^ key(KEY_TALON_CLOSING, talonClosingPlayerId) ^ key(KEY_TALON_CLOSED_SCORE, talonClosedEnemyScore)
+                ^ key(KEY_STARTING_PLAYER, startingPlayer) ^ key(KEY_TURN, playerTurnId) ^ key(KEY_BUMMERL_MAX, bummerlMax);
+        return zobrist;
+    }
 
-                    //if marriage was declared, the player has to lead with one of the two marriage partner cards
-                    if(marriageCardDeclared != null) {
-                        if(marriageCardDeclared.equals(card) || marriageCardDeclared.getPossibleMarriage().equals(card)) {
-                            leadingCard = card;
-                            playerCards.remove(card);
-                            marriageCardDeclared = null;
-                        } else
-                        {
-                            throw new IllegalArgumentException("Player has to play one of the declared marriage partners!");
-                        }
-                    } else {
-                        //If no marriage was declared, the leading player can play any card of their choice
-                        leadingCard = card;
-                        playerCards.remove(leadingCard);
-                    }
-                } else {
-                    //the non-leading player may have restrictions on which cards to play based on the status of the talon/drawing pile
-                    CardSuit leadingSuit = leadingCard.getSuit();
-                    int trickWinnerId = -1;
-                    if (talonClosed || playingCardPile.isEmpty()) {
-                        //the player has to follow the leading cards suit if possible
-                        if (card.getSuit() != leadingSuit) {
-                            for (PlayingCard playingCard : playerCards) {
-                                if (playingCard.getSuit() == leadingSuit) {
-                                    throw new IllegalArgumentException("Player has to follow leading suit");
-                                }
-                            }
-                            //if not possible they are obliged to play a trump card
-                            if (card.isTrumpSuit()) {
-                                trickWinnerId = playerId;
-                            } else {
-                                for(PlayingCard playingCard : playerCards) {
-                                    if(playingCard.getSuit() == trumpSuit) {
-                                        throw new IllegalArgumentException("Player has to play trump if they can not follow the suit");
-                                    }
-                                }
-                                //if suit is not matching and trump cards are not available the trick goes to the leading player
-                                trickWinnerId = 1 - playerId;
-                            }
-                        } else {
-                            //When following leading suit the card must take the trick if possible
-                            if (card.getCardValue() > leadingCard.getCardValue()) {
-                                trickWinnerId = playerId;
-                            } else {
-                                for (PlayingCard playingCard : playerCards) {
-                                    if(playingCard.getSuit() == leadingSuit) {
-                                        if(playingCard.getCardValue() > leadingCard.getCardValue()) {
-                                            throw new IllegalArgumentException("Player has to take the trick if possible!");
-                                        }
-                                    }
-                                }
-                                trickWinnerId = 1 - playerId;
-                            }
-                        }
-                    } else {
-                        //If the talon is not closed there are no restrictions on which cards can be played
-                        if (card.getSuit() != leadingSuit) {
-                            if (card.isTrumpSuit()) {
-                                trickWinnerId = playerId;
-                            } else {
-                                trickWinnerId = 1 - playerId;
-                            }
-                        } else {
-                            if (card.getCardValue() > leadingCard.getCardValue()) {
-                                trickWinnerId = playerId;
-                            } else {
-                                trickWinnerId = 1 - playerId;
-                            }
-                        }
-                    }
+    /**
+     * Returns the ordinal of the trump suit of this round
+     * @return ordinal of the trump suit
+     */
+    int trumpSuit() {
+        return trumpCard / 5;
+    }
 
-                    //Scoring logic adds current tricks points to the round score
-                    // (if marriage score was not yet added it is added after the first trick taken by the player)
-                    if (trickWinnerId == 0) {
-                        player0Tricks.add(new PlayingCard[]{card,leadingCard});
-                        player0Score += card.getCardValue() + leadingCard.getCardValue();
-                        if (player0MarriageTempScore != 0) {
-                            player0Score += player0MarriageTempScore;
-                            player0MarriageTempScore = 0;
-                        }
-                        if(!talonClosed && !playingCardPile.isEmpty()) {
-                            passCards(0, 1);
-                        }
-                    } else {
-                        player1Tricks.add(new PlayingCard[]{card,leadingCard});
-                        player1Score += card.getCardValue() + leadingCard.getCardValue();
-                        if (player1MarriageTempScore != 0) {
-                            player1Score += player1MarriageTempScore;
-                            player1MarriageTempScore = 0;
-                        }
-                        if(!talonClosed &&  !playingCardPile.isEmpty()) {
-                            passCards(1,1);
-                        }
-                    }
+    /**
+     * Checks if the card is of the trump suit, PlaceHolder cards are never a trump
+     * @param card index of the card
+     * @return true if the card is a trump
+     */
+    private boolean isTrump(int card) {
+        return card != PLACEHOLDER && card / 5 == trumpSuit();
+    }
 
-                    //the following players card is still in their hand, we remove it and set the leading card to null
-                    playerCards.remove(card);
-                    leadingCard = null;
+    /**
+     * helper method to get the shared PlayingCard of a card index
+     * @param card index of the card
+     * @return the PlayingCard, null for NO_CARD
+     */
+    private PlayingCard card(int card) {
+        if (card == NO_CARD) {
+            return null;
+        }
+        return PlayingCard.of(card);
+    }
 
-                    //The winning player gets to be the leading player in the next trick
-                    playerTurnId = trickWinnerId;
+    /**
+     * Returns the bitmask of the players hand
+     * @param playerId id of the player
+     * @return the bitmask of the cards in the players hand (without hidden cards)
+     */
+    int hand(int playerId) {
+        return playerId == 0 ? player0Cards : player1Cards;
+    }
 
-                    //the Board checks if round is over, if so it calculates who gets a Bummerl
-                    if (isRoundOver()){
-                        calculateBummerl();
-                    }
+    /**
+     * Returns the amount of hidden cards in the players hand
+     * @param playerId id of the player
+     * @return the number of PlaceHolder cards
+     */
+    int hiddenCards(int playerId) {
+        return playerId == 0 ? player0HiddenCards : player1HiddenCards;
+    }
 
-                    //everything is set for the next trick, therefore return
-                    return;
-                }
+    /**
+     * Returns the marriage score of the player that is not yet scored, because they did not take a trick yet
+     * @param playerId id of the player
+     * @return the marriage score waiting for the first trick of the player
+     */
+    int marriageTempScore(int playerId) {
+        return playerId == 0 ? player0MarriageTempScore : player1MarriageTempScore;
+    }
 
-                //the player turn shifts to player that has not yet played a card
-                playerTurnId = 1 - playerTurnId;
+    /**
+     * Returns the id of the player that closed the talon
+     * @return the id of the closing player, -1 if the talon is not closed
+     */
+    int talonClosingPlayerId() {
+        return talonClosingPlayerId;
+    }
 
-            } else throw new IllegalArgumentException("Card not in players hand!");
-       } else throw new IllegalStateException("It is not the players turn!");
+    /**
+     * Returns the score of the non-closing player at the time the talon was closed
+     * @return the score counted for the Bummerl points of a closed talon
+     */
+    int talonClosedEnemyScore() {
+        return talonClosedEnemyScore;
     }
 
     /**
-     * Leading players can trade the Jack of the trump suit with the trump card, if the talon is not closed
-     *
-     * @param playerId id of the player to make the exchange
+     * Checks if the player holds the given card
+     * @param playerId id of the player
+     * @param card index of the card
+     * @return true if the card is in the players hand
      */
-    public void exchangeTrumpCard(int playerId) {
-        if (playerId != 0 && playerId != 1) {
-            throw new IllegalArgumentException("playerId must be 0 or 1");
+    private boolean handContains(int playerId, int card) {
+        if (card == PLACEHOLDER) {
+            return hiddenCards(playerId) > 0;
         }
+        return (hand(playerId) & bit(card)) != 0;
+    }
 
-        if(!talonClosed) {
-            //We check if the player is allowed to make a change (only when they are leading, so the leadingCard must be null)
-            if (playerId == playerTurnId && leadingCard == null) {
-                List<PlayingCard> playerCards;
-                if (playerId == 0) {
-                    playerCards = player0Cards;
-                } else {
-                    playerCards = player1Cards;
-                }
-
-                //This logic checks if the player has the correct Jack in their hand
-                CardName jackName = switch (trumpSuit) {
-                    case SPADES -> CardName.JackOfSpades;
-                    case HEARTS -> CardName.JackOfHearts;
-                    case DIAMONDS -> CardName.JackOfDiamonds;
-                    case CLUBS -> CardName.JackOfClubs;
-                };
-
-                PlayingCard cardSwitch = null;
-                for (PlayingCard playingCard : playerCards) {
-                    if (playingCard.getCardName().equals(jackName)) {
-                        cardSwitch = trumpCard;
-                        trumpCard = playingCard;
-                        break;
-                    }
-                }
-                if (cardSwitch != null) {
-                    oldTrumpCard = cardSwitch;
-                    playerCards.remove(trumpCard);
-                    playerCards.add(cardSwitch);
-                    playingCardPile.remove(cardSwitch);
-                    playingCardPile.addLast(trumpCard);
-                } else {
-                    throw new IllegalStateException("Player can only swap trump if they have the Jack in the trump suit!");
-                }
+    /**
+     * Checks if the player holds a card of the given suit, PlaceHolder cards count as spades
+     * @param playerId id of the player
+     * @param suit ordinal of the suit
+     * @return true if a card of the suit is in the players hand
+     */
+    private boolean handContainsSuit(int playerId, int suit) {
+        return (hand(playerId) & suitMask(suit)) != 0 || suit == 0 && hiddenCards(playerId) > 0;
+    }
 
-            } else {
-                throw new IllegalStateException("Player can only swap trump card if they are the leading player");
-            }
+    /**
+     * Adds a card to the players hand, PlaceHolder cards are counted as hidden cards
+     * @param playerId id of the player
+     * @param card index of the card
+     */
+    private void addToHand(int playerId, int card) {
+        if (card == PLACEHOLDER) {
+            zobristKey ^= key(KEY_HIDDEN + playerId, hiddenCards(playerId)) ^ key(KEY_HIDDEN + playerId, hiddenCards(playerId) + 1);
+        } else {
+            zobristKey ^= key(KEY_HAND + playerId, card);
+        }
+        if (playerId == 0) {
+            if (card == PLACEHOLDER) player0HiddenCards++;
+            else player0Cards |= bit(card);
         } else {
-            throw new IllegalStateException("Player can only exchange the trump card if the talon is not closed");
+            if (card == PLACEHOLDER) player1HiddenCards++;
+            else player1Cards |= bit(card);
         }
     }
 
+    /**
+     * helper method to mark cards of a hand as seen by the opponent
+     * @param playerId id of the player holding the cards
+     * @param cards bitmask of the cards
+     */
+    private void addShownCards(int playerId, int cards) {
+        if (playerId == 0) {
+            player0ShownCards |= cards;
+        } else {
+            player1ShownCards |= cards;
+        }
+    }
 
     /**
-     * Leading players are allowed to declare a marriage of the Queen and King of the same suit to earn points.
-     * Trump marriages gain 40 points, the others gain 20.
-     * <p>
-     * A common rule is that one has to play one of the two declared marriage cards after the declaration, therefore we track this card
-     * @param playerId      id of player to declare marriage
-     * @param marriageCard1 first card of the marriage
-     * @param marriageCard2 second card of the marriage
+     * helper method to restore the shown cards of a board that was not created by playing, as far as the state tells them:
+     * the declared marriage card and the unplayed cards of declared marriages. Who exchanged the trump card is not part of the state
      */
-    public void declareMarriage(int playerId, PlayingCard marriageCard1, PlayingCard marriageCard2) {
-        if (playerId != 0 && playerId != 1) {
-            throw new IllegalArgumentException("playerId must be 0 or 1");
+    private void deriveShownCards() {
+        int played = player0Tricks | player1Tricks | bit(leadingCard);
+        player0ShownCards = 0;
+        player1ShownCards = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            int marriage = bit(suit * 5 + 1) | bit(suit * 5 + 2);
+            if ((declaredMarriages & 1 << suit) != 0) {
+                player0ShownCards |= marriage & ~played;
+            }
+            if ((declaredMarriages & 1 << (4 + suit)) != 0) {
+                player1ShownCards |= marriage & ~played;
+            }
         }
-        if (marriageCard1 == null || marriageCard2 == null) {
-            throw new IllegalArgumentException("marriageCard cannot be null");
+        if (marriageCardDeclared != NO_CARD) {
+            addShownCards(playerTurnId, bit(marriageCardDeclared) | bit(marriagePartner(marriageCardDeclared)));
         }
-        if (playerTurnId == playerId && leadingCard == null) {
-            List<PlayingCard> playerCards;
-            if (playerId == 0) {
-                playerCards = player0Cards;
-            } else {
-                playerCards = player1Cards;
-            }
-            int tempScore;
-            if (playerCards.contains(marriageCard1) && playerCards.contains(marriageCard2)) {
-                if(marriageCard1.getPossibleMarriage() != null)
-                {
-                    if(marriageCard1.getPossibleMarriage().equals(marriageCard2))
-                    {
-                        if(marriageCard1.isTrumpSuit())
-                        {
-                            tempScore = 40;
-                        }
-                        else {
-                            tempScore = 20;
-                        }
-                    } else {
-                        throw new IllegalArgumentException("Cards can not form a correct marriage");
-                    }
-                } else {
-                    throw new IllegalArgumentException("Cards are not able to be married");
-                }
+    }
 
-                if (tempScore > 0) {
-                    //marriage declared storing marriage Card for action restriction
-                    marriageCardDeclared = marriageCard1;
-
-                    //After a marriage declaration it is possible that the round is instantly over
-                    //if not we add the newly shown marriage as public information in the players marriage list
-                    if (playerId == 0) {
-                        if (player0Score != 0) {
-                            player0Score += tempScore;
-                            //Board checks if round is over
-                            if (isRoundOver()){
-                                calculateBummerl();
-                            } else {
-                                //storing marriage cards as public information
-                                player0Marriages.add(marriageCard1);
-                                player0Marriages.add(marriageCard2);
-                            }
-                        } else {
-                            player0MarriageTempScore = tempScore;
-                        }
+    /**
+     * Removes a card from the players hand, PlaceHolder cards are counted as hidden cards
+     * @param playerId id of the player
+     * @param card index of the card
+     */
+    private void removeFromHand(int playerId, int card) {
+        if (card == PLACEHOLDER) {
+            zobristKey ^= key(KEY_HIDDEN + playerId, hiddenCards(playerId)) ^ key(KEY_HIDDEN + playerId, hiddenCards(playerId) - 1);
+        } else {
+            zobristKey ^= key(KEY_HAND + playerId, card);
+        }
+        //a card leaving the hand is no longer shown in it
+        if (playerId == 0) {
+            if (card == PLACEHOLDER) player0HiddenCards--;
+            else player0Cards &= ~bit(card);
+            player0ShownCards &= ~bit(card);
+        } else {
+            if (card == PLACEHOLDER) player1HiddenCards--;
+            else player1Cards &= ~bit(card);
+            player1ShownCards &= ~bit(card);
+        }
+    }
+
+    /**
+     * Sets the leading card and updates the Zobrist key
+     * @param card index of the new leading card, NO_CARD if there is none
+     */
+    private void setLeadingCard(int card) {
+        zobristKey ^= key(KEY_LEADING, leadingCard) ^ key(KEY_LEADING, card);
+        leadingCard = (byte) card;
+    }
+
+    /**
+     * Sets the declared marriage card and updates the Zobrist key
+     * @param card index of the declared marriage card, NO_CARD if there is none
+     */
+    private void setMarriageCardDeclared(int card) {
+        zobristKey ^= key(KEY_MARRIAGE_DECLARED, marriageCardDeclared) ^ key(KEY_MARRIAGE_DECLARED, card);
+        marriageCardDeclared = (byte) card;
+    }
+
+    /**
+     * Sets the declared marriages of both players and updates the Zobrist key
+     * @param marriages bitmask of the declared marriages, bit 0-3 for player 0 and bit 4-7 for player 1
+     */
+    private void setDeclaredMarriages(int marriages) {
+        zobristKey ^= key(KEY_DECLARED_MARRIAGES, declaredMarriages) ^ key(KEY_DECLARED_MARRIAGES, (byte) marriages);
+        declaredMarriages = (byte) marriages;
+    }
+
+    /**
+     * Sets the player whose turn it is and updates the Zobrist key
+     * @param playerId id of the player
+     */
+    private void setPlayerTurnId(int playerId) {
+        zobristKey ^= key(KEY_TURN, playerTurnId) ^ key(KEY_TURN, playerId);
+        playerTurnId = (byte) playerId;
+    }
+
+    /**
+     * Adds points to the round score of the player and updates the Zobrist key
+     * @param playerId id of the player
+     * @param points points to be added
+     */
+    private void addScore(int playerId, int points) {
+        if (playerId == 0) {
+            zobristKey ^= key(KEY_SCORE, player0Score);
+            player0Score += points;
+            zobristKey ^= key(KEY_SCORE, player0Score);
+        } else {
+            zobristKey ^= key(KEY_SCORE + 1, player1Score);
+            player1Score += points;
+            zobristKey ^= key(KEY_SCORE + 1, player1Score);
+        }
+    }
+
+    /**
+     * Sets the marriage score of the player that is not yet scored and updates the Zobrist key
+     * @param playerId id of the player
+     * @param score the marriage score waiting for the first trick of the player
+     */
+    private void setMarriageTempScore(int playerId, int score) {
+        if (playerId == 0) {
+            zobristKey ^= key(KEY_MARRIAGE_TEMP_SCORE, player0MarriageTempScore) ^ key(KEY_MARRIAGE_TEMP_SCORE, score);
+            player0MarriageTempScore = (byte) score;
+        } else {
+            zobristKey ^= key(KEY_MARRIAGE_TEMP_SCORE + 1, player1MarriageTempScore) ^ key(KEY_MARRIAGE_TEMP_SCORE + 1, score);
+            player1MarriageTempScore = (byte) score;
+        }
+    }
+
+    /**
+     * Returns the number of tricks played this round, every card is either in a hand, in the pile, the leading card or part of a trick
+     * @return number of tricks taken by both players
+     */
+    int trickCount() {
+        int cardsLeft = Integer.bitCount(player0Cards) + Integer.bitCount(player1Cards) + player0HiddenCards + player1HiddenCards
+                + playingCardPileSize + (leadingCard == NO_CARD ? 0 : 1);
+        return (CARD_COUNT - cardsLeft) / 2;
+    }
+
+    /**
+     * helper method to store a trick in the trick history
+     * @param trickIndex the number of the trick in this round
+     * @param card the following card
+     * @param leadingCard the leading card
+     * @param trickWinnerId the player who took the trick
+     */
+    private void addTrick(int trickIndex, int card, int leadingCard, int trickWinnerId) {
+        long trick = card | (long) leadingCard << CARD_BITS | (long) trickWinnerId << (2 * CARD_BITS);
+        if (trickIndex < TRICKS_PER_LONG) {
+            trickHistory |= trick << (TRICK_BITS * trickIndex);
+        } else {
+            trickHistoryTail |= trick << (TRICK_BITS * (trickIndex - TRICKS_PER_LONG));
+        }
+        if (trickWinnerId == 0) {
+            player0Tricks |= bit(card) | bit(leadingCard);
+        } else {
+            player1Tricks |= bit(card) | bit(leadingCard);
+        }
+        //PlaceHolder cards are not stored in the tricks taken
+        if (card != PLACEHOLDER) {
+            zobristKey ^= key(KEY_TRICKS + trickWinnerId, card);
+        }
+        if (leadingCard != PLACEHOLDER) {
+            zobristKey ^= key(KEY_TRICKS + trickWinnerId, leadingCard);
+        }
+    }
+
+    /**
+     * helper method to read a card of the pile
+     * @param position the position in the pile, 0 is the card drawn next
+     * @return the index of the card
+     */
+    private int pileCard(int position) {
+        return (int) (playingCardPile >>> (CARD_BITS * position) & CARD_BITS_MASK);
+    }
+
+    /**
+     * helper method to read a trick from the trick history
+     * @param trickIndex the number of the trick in this round
+     * @return the 11 bits of the trick
+     */
+    int trick(int trickIndex) {
+        if (trickIndex < TRICKS_PER_LONG) {
+            return (int) (trickHistory >>> (TRICK_BITS * trickIndex)) & ((1 << TRICK_BITS) - 1);
+        }
+        return (int) (trickHistoryTail >>> (TRICK_BITS * (trickIndex - TRICKS_PER_LONG))) & ((1 << TRICK_BITS) - 1);
+    }
+
+    /**
+     * Shuffling cards based on the seed of the game and the index of the round, this is the same algorithm as Collections.shuffle
+     * @param cards the card indices to be shuffled
+     */
+    private void shuffleCards(int[] cards) {
+        SplittableRandom random = new SplittableRandom(dealSeed(gameSeed, roundIndex));
+        for (int i = cards.length; i > 1; i--) {
+            int j = random.nextInt(i);
+            int card = cards[i - 1];
+            cards[i - 1] = cards[j];
+            cards[j] = card;
+        }
+    }
+
+    /**
+     * Returns the seed of the deal of a round, the round index is mixed into the seed of the game by the SplitMix64 finalizer,
+     * as the streams of SplittableRandom seeds that differ by a multiple of its increment would overlap
+     * @param gameSeed the seed of the game
+     * @param roundIndex the number of rounds played before
+     * @return the seed of the shuffle
+     */
+    static long dealSeed(long gameSeed, int roundIndex) {
+        long z = gameSeed + (roundIndex + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Dealing the first 10 shuffled cards to the players, alternating between them and starting with the player with the given id
+     * @param cards the shuffled card indices
+     * @param playerId players id that receives the first card
+     */
+    private void dealCards(int[] cards, int playerId) {
+        for (int i = 0; i < 10; i++) {
+            addToHand(i % 2 == 0 ? playerId : 1 - playerId, cards[i]);
+        }
+    }
+
+    /**
+     * This method sets the trumpCard (and therefore the trump suit) and puts the remaining shuffled cards in the drawing pile.
+     * The trump card will be added as the last card in the card pile.
+     * @param cards the shuffled card indices, of which the first 10 have already been dealt
+     */
+    private void createTrumpCard(int[] cards) {
+        trumpCard = (byte) cards[10];
+        playingCardPile = 0;
+        playingCardPileSize = 0;
+        for (int i = 11; i < cards.length; i++) {
+            playingCardPile |= (long) cards[i] << (CARD_BITS * playingCardPileSize++);
+        }
+        playingCardPile |= (long) trumpCard << (CARD_BITS * playingCardPileSize++);
+    }
+
+    /**
+     * Drawing the top card of the pile
+     * @return index of the drawn card
+     */
+    private int drawCard() {
+        int card = (int) (playingCardPile & CARD_BITS_MASK);
+        zobristKey ^= key(KEY_PILE + playingCardPileSize - 1, card);
+        playingCardPile >>>= CARD_BITS;
+        playingCardPileSize--;
+        return card;
+    }
+
+    /**
+     * Passing cards from the pile to the players, first to the player with the given id
+     *
+     * @param playerId      players id that receives the card first
+     * @param numberOfCards number of cards that are passed out
+     */
+    private void passCards(int playerId, int numberOfCards) {
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+        if (!isTalonClosed() && playingCardPileSize != 0) {
+            for (int i = 0; i < numberOfCards; i++) {
+                addToHand(playerId, drawCard());
+                addToHand(1 - playerId, drawCard());
+            }
+            //the last card of the pile is the trump card, which was face up
+            if (playingCardPileSize == 0) {
+                addShownCards(1 - playerId, bit(trumpCard));
+            }
+        } else throw new IllegalStateException("Can not pass cards, when talon is closed or pile is empty!");
+    }
+
+    /**
+     * The leading player puts the card on the table, a declared marriage is resolved by it
+     * @param playerId id of the leading player
+     * @param cardIndex index of the card, which has to be a legal lead
+     */
+    private void leadCard(int playerId, int cardIndex) {
+        setLeadingCard(cardIndex);
+        removeFromHand(playerId, cardIndex);
+        if (marriageCardDeclared != NO_CARD) {
+            setMarriageCardDeclared(NO_CARD);
+        }
+        //the player turn shifts to player that has not yet played a card
+        setPlayerTurnId(1 - playerTurnId);
+    }
+
+    /**
+     * The following player completes the trick: it is stored and scored, cards are drawn and the next round is dealt if this one is over
+     * @param playerId id of the following player
+     * @param cardIndex index of the card, which has to be a legal follow
+     * @param trickWinnerId id of the player taking the trick
+     */
+    private void followCard(int playerId, int cardIndex, int trickWinnerId) {
+        //the trick is stored before the cards are moved, as the trick count is based on the cards still in play
+        addTrick(trickCount(), cardIndex, leadingCard, trickWinnerId);
+
+        //the following players card is still in their hand, we remove it and set the leading card to null
+        removeFromHand(playerId, cardIndex);
+        int trickScore = valueOf(cardIndex) + valueOf(leadingCard);
+        setLeadingCard(NO_CARD);
+
+        //Scoring logic adds current tricks points to the round score
+        // (if marriage score was not yet added it is added after the first trick taken by the player)
+        if (trickWinnerId == 0) {
+            addScore(0, trickScore);
+            if (player0MarriageTempScore != 0) {
+                addScore(0, player0MarriageTempScore);
+                setMarriageTempScore(0, 0);
+            }
+            if(!isTalonClosed() && playingCardPileSize != 0) {
+                passCards(0, 1);
+            }
+        } else {
+            addScore(1, trickScore);
+            if (player1MarriageTempScore != 0) {
+                addScore(1, player1MarriageTempScore);
+                setMarriageTempScore(1, 0);
+            }
+            if(!isTalonClosed() && playingCardPileSize != 0) {
+                passCards(1,1);
+            }
+        }
+
+        //The winning player gets to be the leading player in the next trick
+        setPlayerTurnId(trickWinnerId);
+
+        //the Board checks if round is over, if so it calculates who gets a Bummerl
+        if (isRoundOver()){
+            calculateBummerl();
+        }
+    }
+
+    /**
+     * The leading player swaps the Jack of trumps for the trump card at the bottom of the pile
+     * @param playerId id of the player holding the Jack of trumps
+     */
+    private void swapTrumpCard(int playerId) {
+        int jack = trumpSuit() * 5;
+        zobristKey ^= key(KEY_OLD_TRUMP, oldTrumpCard) ^ key(KEY_OLD_TRUMP, trumpCard)
+                ^ key(KEY_TRUMP, trumpCard) ^ key(KEY_TRUMP, jack);
+        oldTrumpCard = trumpCard;
+        trumpCard = (byte) jack;
+        removeFromHand(playerId, jack);
+        addToHand(playerId, oldTrumpCard);
+        addShownCards(playerId, bit(oldTrumpCard));
+
+        //the Jack replaces the old trump card at the bottom of the pile
+        int bottom = CARD_BITS * (playingCardPileSize - 1);
+        playingCardPile = playingCardPile & ~(CARD_BITS_MASK << bottom) | (long) jack << bottom;
+        zobristKey ^= key(KEY_PILE, oldTrumpCard) ^ key(KEY_PILE, jack);
+    }
+
+    /**
+     * The leading player shows a marriage, it is scored right away if the player already has points
+     * @param playerId id of the player holding both cards of the marriage
+     * @param marriage1 index of the marriage card that is stored as declared
+     * @param tempScore 40 for a marriage of trumps, otherwise 20
+     */
+    private void announceMarriage(int playerId, int marriage1, int tempScore) {
+        //marriage declared storing marriage Card for action restriction
+        setMarriageCardDeclared(marriage1);
+        addShownCards(playerId, bit(marriage1) | bit(marriagePartner(marriage1)));
+
+        //After a marriage declaration it is possible that the round is instantly over
+        //if not we add the newly shown marriage as public information in the players marriage list
+        if (playerId == 0) {
+            if (player0Score != 0) {
+                addScore(0, tempScore);
+                //Board checks if round is over
+                if (isRoundOver()){
+                    calculateBummerl();
+                } else {
+                    //storing marriage suit as public information
+                    setDeclaredMarriages(declaredMarriages | 1 << suitOf(marriage1));
+                }
+            } else {
+                setMarriageTempScore(0, tempScore);
+            }
+        } else {
+            if (player1Score != 0) {
+                addScore(1, tempScore);
+                //Board checks if round is over
+                if (isRoundOver()){
+                    calculateBummerl();
+                } else {
+                    //storing marriage suit as public information
+                    setDeclaredMarriages(declaredMarriages | 1 << (4 + suitOf(marriage1)));
+                }
+            } else {
+                setMarriageTempScore(1, tempScore);
+            }
+        }
+    }
+
+    /**
+     * The leading player closes the talon, the score of the opponent at this point is kept for the Bummerl calculation
+     * @param playerId id of the leading player
+     */
+    private void shutTalon(int playerId) {
+        zobristKey ^= key(KEY_TALON_CLOSING, talonClosingPlayerId) ^ key(KEY_TALON_CLOSED_SCORE, talonClosedEnemyScore);
+        talonClosingPlayerId = (byte) playerId;
+        if(playerId == 0) {
+            talonClosedEnemyScore = player1Score;
+        } else {
+            talonClosedEnemyScore = player0Score;
+        }
+        zobristKey ^= key(KEY_TALON_CLOSING, talonClosingPlayerId) ^ key(KEY_TALON_CLOSED_SCORE, talonClosedEnemyScore);
+    }
+
+    /**
+     * Player plays a card on the board, includes logic for who takes the trick if the played card is not the leading card
+     * <p>
+     * If the playing card pile is empty or the talon was closed,
+     * the following card has to have the same color of the leading card and one is obliged to take the trick if possible.
+     * These rules are enforced by throwing exceptions if broken
+     * <p>
+     * Trick is scored and added to the tricks taken pile of the player in the end.
+     *
+     * @param playerId id of player playing the card
+     * @param card the card the player wants to play
+     */
+    public void playCard(int playerId, PlayingCard card) {
+        possibleActions = null;
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+        if (card == null) {
+            throw new IllegalArgumentException("card cannot be null");
+        }
+       if (playerTurnId == playerId) {
+            int cardIndex = indexOf(card);
+
+            if (handContains(playerId, cardIndex)) {
+                if (leadingCard == NO_CARD) {
+
+                    //if marriage was declared, the player has to lead with one of the two marriage partner cards
+                    if(marriageCardDeclared != NO_CARD && marriageCardDeclared != cardIndex && marriagePartner(marriageCardDeclared) != cardIndex) {
+                        throw new IllegalArgumentException("Player has to play one of the declared marriage partners!");
+                    }
+                    //otherwise the leading player can play any card of their choice
+                    leadCard(playerId, cardIndex);
+                } else {
+                    //the non-leading player may have restrictions on which cards to play based on the status of the talon/drawing pile
+                    int leadingSuit = suitOf(leadingCard);
+                    int trickWinnerId = -1;
+                    if (isTalonClosed() || playingCardPileSize == 0) {
+                        //the player has to follow the leading cards suit if possible
+                        if (suitOf(cardIndex) != leadingSuit) {
+                            if (handContainsSuit(playerId, leadingSuit)) {
+                                throw new IllegalArgumentException("Player has to follow leading suit");
+                            }
+                            //if not possible they are obliged to play a trump card
+                            if (isTrump(cardIndex)) {
+                                trickWinnerId = playerId;
+                            } else {
+                                if ((hand(playerId) & suitMask(trumpSuit())) != 0) {
+                                    throw new IllegalArgumentException("Player has to play trump if they can not follow the suit");
+                                }
+                                //if suit is not matching and trump cards are not available the trick goes to the leading player
+                                trickWinnerId = 1 - playerId;
+                            }
+                        } else {
+                            //When following leading suit the card must take the trick if possible
+                            if (valueOf(cardIndex) > valueOf(leadingCard)) {
+                                trickWinnerId = playerId;
+                            } else {
+                                if ((hand(playerId) & higherCards(leadingCard)) != 0) {
+                                    throw new IllegalArgumentException("Player has to take the trick if possible!");
+                                }
+                                trickWinnerId = 1 - playerId;
+                            }
+                        }
                     } else {
-                        if (player1Score != 0) {
-                            player1Score += tempScore;
-                            //Board checks if round is over
-                            if (isRoundOver()){
-                                calculateBummerl();
+                        //If the talon is not closed there are no restrictions on which cards can be played
+                        if (suitOf(cardIndex) != leadingSuit) {
+                            if (isTrump(cardIndex)) {
+                                trickWinnerId = playerId;
                             } else {
-                                //storing marriage cards as public information
-                                player1Marriages.add(marriageCard1);
-                                player1Marriages.add(marriageCard2);
+                                trickWinnerId = 1 - playerId;
                             }
                         } else {
-                            player1MarriageTempScore = tempScore;
+                            if (valueOf(cardIndex) > valueOf(leadingCard)) {
+                                trickWinnerId = playerId;
+                            } else {
+                                trickWinnerId = 1 - playerId;
+                            }
                         }
                     }
+
+                    followCard(playerId, cardIndex, trickWinnerId);
                 }
+
+            } else throw new IllegalArgumentException("Card not in players hand!");
+       } else throw new IllegalStateException("It is not the players turn!");
+    }
+
+    /**
+     * Leading players can trade the Jack of the trump suit with the trump card, if the talon is not closed
+     *
+     * @param playerId id of the player to make the exchange
+     */
+    public void exchangeTrumpCard(int playerId) {
+        possibleActions = null;
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+
+        //The trump card has to be at the bottom of the drawing pile to be exchanged
+        if(!isTalonClosed() && playingCardPileSize != 0) {
+            //We check if the player is allowed to make a change (only when they are leading, so the leadingCard must be null)
+            if (playerId == playerTurnId && leadingCard == NO_CARD) {
+
+                //This logic checks if the player has the correct Jack in their hand
+                int jack = trumpSuit() * 5;
+
+                if (handContains(playerId, jack)) {
+                    swapTrumpCard(playerId);
+                } else {
+                    throw new IllegalStateException("Player can only swap trump if they have the Jack in the trump suit!");
+                }
+
+            } else {
+                throw new IllegalStateException("Player can only swap trump card if they are the leading player");
+            }
+        } else {
+            throw new IllegalStateException("Player can only exchange the trump card if the talon is not closed or empty");
+        }
+    }
+
+
+    /**
+     * Leading players are allowed to declare a marriage of the Queen and King of the same suit to earn points.
+     * Trump marriages gain 40 points, the others gain 20.
+     * <p>
+     * A common rule is that one has to play one of the two declared marriage cards after the declaration, therefore we track this card
+     * @param playerId      id of player to declare marriage
+     * @param marriageCard1 first card of the marriage
+     * @param marriageCard2 second card of the marriage
+     */
+    public void declareMarriage(int playerId, PlayingCard marriageCard1, PlayingCard marriageCard2) {
+        possibleActions = null;
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+        if (marriageCard1 == null || marriageCard2 == null) {
+            throw new IllegalArgumentException("marriageCard cannot be null");
+        }
+        if (playerTurnId == playerId && leadingCard == NO_CARD) {
+            int marriage1 = indexOf(marriageCard1);
+            int marriage2 = indexOf(marriageCard2);
+            int tempScore;
+            if (handContains(playerId, marriage1) && handContains(playerId, marriage2)) {
+                if(marriagePartner(marriage1) != NO_CARD)
+                {
+                    if(marriagePartner(marriage1) == marriage2)
+                    {
+                        if(isTrump(marriage1))
+                        {
+                            tempScore = 40;
+                        }
+                        else {
+                            tempScore = 20;
+                        }
+                    } else {
+                        throw new IllegalArgumentException("Cards can not form a correct marriage");
+                    }
+                } else {
+                    throw new IllegalArgumentException("Cards are not able to be married");
+                }
+
+                announceMarriage(playerId, marriage1, tempScore);
             } else {
                 throw new IllegalArgumentException("Player does not have the necessary cards");
             }
-        } else throw new IllegalStateException("Player can only declare marriages if they are the leading player");
+        } else throw new IllegalStateException("Player can only declare marriages if they are the leading player");
+    }
+
+    /**
+     * Leading players can close the talon to stop the drawing of new cards and enforce the follow suit rule
+     * @param playerId id of player to close the talon
+     */
+    public void closeTalon(int playerId) {
+        possibleActions = null;
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+        //We got to keep track of the current score of the non-closing player for the end of round Bummerl calculation
+        if(playerTurnId == playerId && leadingCard == NO_CARD) {
+            shutTalon(playerId);
+
+        } else throw new IllegalStateException("Player can only close talon if they are the leading player");
+    }
+    /**
+     * Applies the action to this board in place and records an undo frame, so the action can be taken back with undo().
+     * The frame holds the complete state before the action, which covers trick resolution, drawing cards, marriage scores,
+     * closing the talon, exchanging the trump card and the start of a new round.
+     * <p>
+     * The round index is part of the frame as well, so applying an action again after undoing it deals the same next round.
+     * @param action the action to be applied
+     */
+    public void apply(SchnapsenAction action) {
+        if (action == null) {
+            throw new IllegalArgumentException("action cannot be null");
+        }
+        pushUndoFrame();
+        try {
+            action.doAction(this);
+        } catch (RuntimeException e) {
+            //illegal actions are rejected before the board is changed, so the frame is simply dropped
+            undoFrameCount--;
+            throw e;
+        }
+    }
+
+    /**
+     * Applies an action that was taken from the possible actions of this board, with an undo frame like apply(),
+     * but the rules are not checked again. Search uses it for the actions it generated itself, the engine keeps using apply()
+     * @param action a possible action of this board
+     */
+    public void applyTrusted(SchnapsenAction action) {
+        pushUndoFrame();
+        doTrustedAction(action.getOrdinal());
+    }
+
+    /**
+     * Takes the action with the given ordinal for the player whose turn it is, without checking the rules and without an undo frame.
+     * Actions that are not possible leave the board in an undefined state, unless the debug switch setVerifyTrusted is on,
+     * then the action is also taken on a copy with the validating methods and both boards have to be equal
+     * @param ordinal the ordinal of a possible action of this board
+     */
+    public void doTrustedAction(int ordinal) {
+        SchnapsenBoard expected = verifyTrusted ? validatedCopy(ordinal) : null;
+        possibleActions = null;
+        int playerId = playerTurnId;
+        if (ordinal < SchnapsenAction.MARRIAGE) {
+            if (leadingCard == NO_CARD) {
+                leadCard(playerId, ordinal);
+            } else {
+                followCard(playerId, ordinal, trickWinner(playerId, ordinal));
+            }
+        } else if (ordinal < SchnapsenAction.EXCHANGE) {
+            int suit = ordinal - SchnapsenAction.MARRIAGE;
+            //the King is the declared card, as for the marriage actions of the precomputed universe
+            announceMarriage(playerId, suit * 5 + 2, suit == trumpSuit() ? 40 : 20);
+        } else if (ordinal == SchnapsenAction.EXCHANGE) {
+            swapTrumpCard(playerId);
+        } else {
+            shutTalon(playerId);
+        }
+
+        if (expected != null && (!equals(expected) || roundIndex != expected.roundIndex
+                || player0ShownCards != expected.player0ShownCards || player1ShownCards != expected.player1ShownCards)) {
+            throw new IllegalStateException("Trusted action " + ordinal + " does not match the validated action: " + this + " != " + expected);
+        }
     }
 
     /**
-     * Leading players can close the talon to stop the drawing of new cards and enforce the follow suit rule
-     * @param playerId id of player to close the talon
+     * Turns the debug switch of the trusted actions on or off, it can also be turned on with -Dschnapsen.verifyTrusted=true
+     * @param verify true if every trusted action is compared to the validating methods
      */
-    public void closeTalon(int playerId) {
-        if (playerId != 0 && playerId != 1) {
-            throw new IllegalArgumentException("playerId must be 0 or 1");
+    public static void setVerifyTrusted(boolean verify) {
+        verifyTrusted = verify;
+    }
+
+    /**
+     * Returns whether trusted actions are compared to the validating methods
+     * @return true if the debug switch is on
+     */
+    public static boolean isVerifyTrusted() {
+        return verifyTrusted;
+    }
+
+    /**
+     * helper method of the debug switch, takes the action on a copy with the validating methods
+     * @param ordinal the ordinal of the action
+     * @return the copy after the action
+     */
+    private SchnapsenBoard validatedCopy(int ordinal) {
+        SchnapsenBoard copy = new SchnapsenBoard(this);
+        try {
+            SchnapsenAction.of(getTrumpSuit(), playerTurnId, ordinal).doAction(copy);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Trusted action " + ordinal + " is not possible on the board: " + this, e);
         }
-        //We got to keep track of the current score of the non-closing player for the end of round Bummerl calculation
-        if(playerTurnId == playerId && leadingCard == null) {
-            talonClosed = true;
-            talonClosingPlayerId = playerId;
-            if(playerId == 0) {
-                talonClosedEnemyScore = player1Score;
-            } else {
-                talonClosedEnemyScore = player0Score;
-            }
+        return copy;
+    }
 
-        } else throw new IllegalStateException("Player can only close talon if they are the leading player");
+    /**
+     * Returns the player taking the current trick with the given card, the rules of the talon do not change who takes it
+     * @param playerId id of the following player
+     * @param card index of the following card
+     * @return id of the player taking the trick
+     */
+    private int trickWinner(int playerId, int card) {
+        boolean followWins = suitOf(card) == suitOf(leadingCard) ? valueOf(card) > valueOf(leadingCard) : isTrump(card);
+        return followWins ? playerId : 1 - playerId;
+    }
+
+    /**
+     * helper method to record the state before an action in the next undo frame, the frames are reused
+     */
+    private void pushUndoFrame() {
+        if (undoFrames == null) {
+            undoFrames = new SchnapsenBoard[16];
+        } else if (undoFrameCount == undoFrames.length) {
+            undoFrames = Arrays.copyOf(undoFrames, 2 * undoFrameCount);
+        }
+
+        SchnapsenBoard frame = undoFrames[undoFrameCount];
+        if (frame == null) {
+            undoFrames[undoFrameCount] = new SchnapsenBoard(this);
+        } else {
+            frame.copyStateFrom(this);
+        }
+        undoFrameCount++;
+    }
+
+    /**
+     * Takes back the last action applied with apply() by restoring the state of its undo frame
+     */
+    public void undo() {
+        if (undoFrameCount == 0) {
+            throw new IllegalStateException("There is no applied action to undo");
+        }
+        copyStateFrom(undoFrames[--undoFrameCount]);
     }
 
     /**
@@ -875,98 +1525,83 @@ public class SchnapsenBoard {
      * and the non-closing player will get at least 2 Bummerl points no matter the amount of tricks they had.
      * losing means that they did not get 66 score points even tough they closed the talon.
      * The last trick scoring rule is not active if the talon was closed
-     * <p>
-     * <p>
-     * This method also adds the Bummerl to the losing player.
-     * If the losing player had not won any rounds (7 on their score), they receive a "Schneider", which counts as 2 Bummerl.
+     * @param player0Score round score of player 0
+     * @param player1Score round score of player 1
+     * @param talonClosingPlayerId id of the player that closed the talon, -1 if the talon was not closed
+     * @param talonClosedEnemyScore score of the non-closing player at the time the talon was closed
+     * @param lastTrickWinnerId id of the player who won the last trick (the player whose turn it is when the round is over)
+     * @return the Bummerl points won in the round, positive if player 0 wins them and negative if player 1 wins them
      */
-    private void calculateBummerl()
+    static int roundPoints(int player0Score, int player1Score, int talonClosingPlayerId, int talonClosedEnemyScore, int lastTrickWinnerId)
     {
-        if(isRoundOver() && !isGameOver())
+        //If the talon was closed the scoring changes accordingly
+        if(talonClosingPlayerId != -1)
         {
-            //If the talon was closed the scoring changes accordingly
-            if(talonClosed)
+            int closingScore = talonClosingPlayerId == 0 ? player0Score : player1Score;
+            int points;
+            if(closingScore >= 66)
             {
-                if(talonClosingPlayerId == 0)
+                if(talonClosedEnemyScore == 0)
                 {
-                    if(player0Score >= 66)
-                    {
-                        if(talonClosedEnemyScore == 0)
-                        {
-                            player0Bummerl = player0Bummerl-3;
-                        } else if(talonClosedEnemyScore < 33)
-                        {
-                            player0Bummerl = player0Bummerl-2;
-                        }
-                        else {
-                            player0Bummerl = player0Bummerl-1;
-                        }
-                    }
-                    else {
-                        if(talonClosedEnemyScore == 0)
-                        {
-                            player1Bummerl = player1Bummerl-3;
-                        } else {
-                            player1Bummerl = player1Bummerl-2;
-                        }
-
-                    }
-                }
-                else
+                    points = 3;
+                } else if(talonClosedEnemyScore < 33)
                 {
-                    if(player1Score >= 66){
-                        if(talonClosedEnemyScore == 0)
-                        {
-                            player1Bummerl = player1Bummerl-3;
-                        } else if (talonClosedEnemyScore < 33)
-                        {
-                            player1Bummerl = player1Bummerl-2;
-                        } else  {
-                            player1Bummerl = player1Bummerl-1;
-                        }
-                    }
-                    else {
-                        if(talonClosedEnemyScore == 0)
-                        {
-                            player0Bummerl = player0Bummerl-3;
-                        }
-                        else {
-                            player0Bummerl = player0Bummerl-2;
-                        }
-                    }
+                    points = 2;
                 }
-            } else {
-                if(player1Score >= 66)
-                {
-                    if(player0Score == 0) {
-                        player1Bummerl = player1Bummerl-3;
-                    }
-                    else if (player0Score < 33) {
-                        player1Bummerl = player1Bummerl-2;
-                    } else {
-                        player1Bummerl = player1Bummerl-1;
-                    }
-                } else if(player0Score >= 66) {
-                    if(player1Score == 0)
-                    {
-                        player0Bummerl = player0Bummerl-3;
-                    }
-                    else if(player1Score < 33) {
-                        player0Bummerl = player0Bummerl-2;
-                    } else {
-                        player0Bummerl = player0Bummerl-1;
-                    }
-                } else {
-                    //This is the special case that no one got to score 66 points
-                    //Then it is checked who won the last trick (therefore whose turn would be next to start a new trick)
-                    if(playerTurnId == 0)
-                    {
-                        player0Bummerl = player0Bummerl-1;
-                    } else {
-                        player1Bummerl = player1Bummerl-1;
-                    }
+                else {
+                    points = 1;
                 }
+                return talonClosingPlayerId == 0 ? points : -points;
+            }
+            //if the closing player failed the non-closing player gets at least 2 points
+            if(talonClosedEnemyScore == 0)
+            {
+                points = 3;
+            } else {
+                points = 2;
+            }
+            return talonClosingPlayerId == 0 ? -points : points;
+        }
+
+        if(player1Score >= 66)
+        {
+            if(player0Score == 0) {
+                return -3;
+            }
+            else if (player0Score < 33) {
+                return -2;
+            }
+            return -1;
+        } else if(player0Score >= 66) {
+            if(player1Score == 0)
+            {
+                return 3;
+            }
+            else if(player1Score < 33) {
+                return 2;
+            }
+            return 1;
+        }
+        //This is the special case that no one got to score 66 points
+        //Then it is checked who won the last trick (therefore whose turn would be next to start a new trick)
+        return lastTrickWinnerId == 0 ? 1 : -1;
+    }
 
+    /**
+     * Scores the finished round with roundPoints and counts the Bummerl points down for the winning player.
+     * <p>
+     * This method also adds the Bummerl to the losing player.
+     * If the losing player had not won any rounds (7 on their score), they receive a "Schneider", which counts as 2 Bummerl.
+     */
+    private void calculateBummerl()
+    {
+        if(isRoundOver() && !isGameOver())
+        {
+            int points = roundPoints(player0Score, player1Score, talonClosingPlayerId, talonClosedEnemyScore, playerTurnId);
+            if(points > 0) {
+                player0Bummerl -= points;
+            } else {
+                player1Bummerl += points;
             }
 
             //check who lost and gets the Bummerl if it is over already
@@ -992,116 +1627,824 @@ public class SchnapsenBoard {
 
             if(!isGameOver()) {
                 //If game is not over yet, the starting player shifts and a new round begins
-                startingPlayer = 1 - startingPlayer;
+                startingPlayer = (byte) (1 - startingPlayer);
+                roundIndex++;
                 resetRound();
+            } else {
+                //the new round recomputes the key after dealing, the final state of the game has to be keyed here
+                zobristKey = computeZobristKey();
+            }
+        }
+    }
+
+    /**
+     * This method resets the Bummerl and the corresponding scores
+     */
+    private void resetBummerl() {
+        player0Bummerl = 7;
+        player1Bummerl = 7;
+    }
+
+    /**
+     * Checks if one of the players has reached the Bummerl maximum, and therefore a game over state
+     * @return boolean if the game is over
+     */
+    public boolean isGameOver() {
+        return player0BummerlAmount >= bummerlMax || player1BummerlAmount >= bummerlMax;
+    }
+
+    /**
+     * This method checks the players scores and returns true if the round is over,
+     * as the total possible score without marriages is 120 it is possible that no player has 66 or more points (especially when the talon was closed),
+     * therefore the player card piles are checked as well
+     * @return boolean to check if round is over
+     */
+    private boolean isRoundOver() {
+        return player1Score >= 66 || player0Score >= 66 || player0Cards == 0 && player1Cards == 0 && player0HiddenCards == 0 && player1HiddenCards == 0;
+    }
+
+    /**
+     * This method resets the round as long as the game is not over
+     */
+    private void resetRound() {
+        if(!isGameOver())
+        {
+            //resetting round scores
+            player0Score = 0;
+            player1Score = 0;
+
+            //resetting hands
+            player0Cards = 0;
+            player1Cards = 0;
+            player0HiddenCards = 0;
+            player1HiddenCards = 0;
+
+            //resetting tricks
+            player0Tricks = 0;
+            player1Tricks = 0;
+            trickHistory = 0;
+            trickHistoryTail = 0;
+
+            //resetting pile
+            playingCardPile = 0;
+            playingCardPileSize = 0;
+
+            //resetting marriage scores and card
+            player0MarriageTempScore = 0;
+            player1MarriageTempScore = 0;
+            marriageCardDeclared = NO_CARD;
+
+            //resetting tracked marriages
+            declaredMarriages = 0;
+
+            //resetting talon logic
+            talonClosingPlayerId = -1;
+            talonClosedEnemyScore = 0;
+
+            //resetting trumps
+            trumpCard = NO_CARD;
+            oldTrumpCard = NO_CARD;
+
+            //resetting leading card
+            leadingCard = NO_CARD;
+
+            //resetting the cards seen in the hands
+            player0ShownCards = 0;
+            player1ShownCards = 0;
+
+            //setting playerTurnId to starting player
+            playerTurnId = startingPlayer;
+
+            //starting new round
+            roundInitialisation();
+        }
+    }
+
+    /**
+     * If the overall score of one player is 0 or lower the current Bummerl is over (counted down from 7)
+     * @return boolean that checks if the game is over
+     */
+    public boolean isBummerlOver() {
+        return player0Bummerl <= 0 || player1Bummerl <= 0;
+    }
+
+
+
+
+
+
+    /**
+     * Returns the 64 bit Zobrist key of the state, which is kept up to date with every change of the board.
+     * Equal boards have equal keys, so the key can be used for transposition tables
+     * @return the Zobrist key of the board
+     */
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    /**
+     * Packs the state of the board into ENCODED_LONGS longs, equal boards have equal encodings.
+     * The seed of the game and the order of the tricks are not part of the state and are not encoded
+     * @return a new array holding the encoding
+     */
+    public long[] encode() {
+        long[] encoding = new long[ENCODED_LONGS];
+        encode(encoding, 0);
+        return encoding;
+    }
+
+    /**
+     * Packs the state of the board into ENCODED_LONGS longs of the target array, without allocating
+     * <p>
+     * The first long holds the location of every card as a base 6 number followed by the trump card and the old trump card,
+     * the second one the order of the pile as a Lehmer code, the declared marriages, the round scores and the talon closing state,
+     * the third one the Bummerl counters, the player ids, the Bummerl maximum and the Bummerl amounts
+     * @param target the array the encoding is written to
+     * @param offset the index of the first long
+     */
+    public void encode(long[] target, int offset) {
+        if (target == null) {
+            throw new IllegalArgumentException("target cannot be null");
+        }
+        if (offset < 0 || offset > target.length - ENCODED_LONGS) {
+            throw new IllegalArgumentException("target has no room for the encoding at offset " + offset);
+        }
+        if (player0HiddenCards != 0 || player1HiddenCards != 0 || leadingCard == PLACEHOLDER) {
+            throw new IllegalArgumentException("Boards with hidden information cannot be encoded");
+        }
+        if (player0Score < 0 || player1Score < 0 || talonClosedEnemyScore < 0
+                || player0Bummerl < 0 || player1Bummerl < 0 || bummerlMax > 0xFFFF
+                || player0BummerlAmount > 0xFFFF || player1BummerlAmount > 0xFFFF) {
+            throw new IllegalArgumentException("The scores of the board are out of the range of the encoding");
+        }
+
+        int pileCards = 0;
+        for (int i = 0; i < playingCardPileSize; i++) {
+            pileCards |= bit(pileCard(i));
+        }
+        long locations = 0;
+        for (int card = CARD_COUNT - 1; card >= 0; card--) {
+            int location;
+            if ((player0Cards & bit(card)) != 0) location = LOCATION_HAND;
+            else if ((player1Cards & bit(card)) != 0) location = LOCATION_HAND + 1;
+            else if ((pileCards & bit(card)) != 0) location = LOCATION_PILE;
+            else if ((player0Tricks & bit(card)) != 0) location = LOCATION_TRICKS;
+            else if ((player1Tricks & bit(card)) != 0) location = LOCATION_TRICKS + 1;
+            else location = LOCATION_LEADING;
+            locations = locations * LOCATION_COUNT + location;
+        }
+
+        //the position of every pile card among the pile cards that are not drawn before it
+        long pileOrder = 0;
+        for (int i = 0; i < playingCardPileSize; i++) {
+            int card = pileCard(i);
+            pileOrder = pileOrder * (playingCardPileSize - i) + Integer.bitCount(pileCards & (bit(card) - 1));
+            pileCards &= ~bit(card);
+        }
+
+        target[offset] = locations | (long) trumpCard << 52 | (long) (oldTrumpCard + 1) << 57;
+        target[offset + 1] = pileOrder | (long) (marriageCardDeclared + 1) << 22 | (long) (declaredMarriages & 0xFF) << 27
+                | (long) player0Score << 35 | (long) player1Score << 42
+                | (long) (player0MarriageTempScore / 20) << 49 | (long) (player1MarriageTempScore / 20) << 51
+                | (long) (talonClosingPlayerId + 1) << 53 | (long) talonClosedEnemyScore << 55;
+        target[offset + 2] = player0Bummerl | player1Bummerl << 4 | startingPlayer << 8 | playerTurnId << 9
+                | (long) bummerlMax << 10 | (long) player0BummerlAmount << 26 | (long) player1BummerlAmount << 42;
+    }
+
+    /**
+     * Creates a board from its encoding. The tricks of each player are restored in ascending pairs of cards,
+     * and the decoded board has a game seed of 0, so it deals other rounds than the encoded one
+     * @param encoding the longs written by encode
+     * @return a new board equal to the encoded one
+     */
+    public static SchnapsenBoard decode(long[] encoding) {
+        return decode(encoding, 0);
+    }
+
+    /**
+     * Creates a board from an encoding stored in an array
+     * @param source the array holding the encoding
+     * @param offset the index of the first long
+     * @return a new board equal to the encoded one
+     */
+    public static SchnapsenBoard decode(long[] source, int offset) {
+        if (source == null) {
+            throw new IllegalArgumentException("source cannot be null");
+        }
+        if (offset < 0 || offset > source.length - ENCODED_LONGS) {
+            throw new IllegalArgumentException("source holds no encoding at offset " + offset);
+        }
+        SchnapsenBoard board = new SchnapsenBoard(source[offset], source[offset + 1], source[offset + 2]);
+        board.deriveShownCards();
+        board.zobristKey = board.computeZobristKey();
+        return board;
+    }
+
+    /**
+     * This constructor is used by decode, it sets the state of the three longs of an encoding
+     */
+    private SchnapsenBoard(long first, long second, long third) {
+        int pileCards = 0;
+        int leading = NO_CARD;
+        long locations = first & ((1L << 52) - 1);
+        for (int card = 0; card < CARD_COUNT; card++) {
+            int location = (int) (locations % LOCATION_COUNT);
+            locations /= LOCATION_COUNT;
+            switch (location) {
+                case LOCATION_HAND:
+                case LOCATION_HAND + 1:
+                    addToHand(location - LOCATION_HAND, card);
+                    break;
+                case LOCATION_PILE:
+                    pileCards |= bit(card);
+                    break;
+                case LOCATION_TRICKS:
+                    player0Tricks |= bit(card);
+                    break;
+                case LOCATION_TRICKS + 1:
+                    player1Tricks |= bit(card);
+                    break;
+                default:
+                    if (leading != NO_CARD) {
+                        throw new IllegalArgumentException("The encoding has more than one leading card");
+                    }
+                    leading = card;
+            }
+        }
+        if (locations != 0 || Integer.bitCount(player0Tricks) % 2 != 0 || Integer.bitCount(player1Tricks) % 2 != 0) {
+            throw new IllegalArgumentException("The encoding does not hold valid card locations");
+        }
+
+        //the tricks are stored as pairs of ascending cards, the order they were taken in is not encoded
+        int trickIndex = 0;
+        for (int playerId = 0; playerId < 2; playerId++) {
+            int tricks = playerId == 0 ? player0Tricks : player1Tricks;
+            while (tricks != 0) {
+                int lead = Integer.numberOfTrailingZeros(tricks);
+                tricks &= tricks - 1;
+                int follow = Integer.numberOfTrailingZeros(tricks);
+                tricks &= tricks - 1;
+                addTrick(trickIndex++, follow, lead, playerId);
             }
         }
+
+        int pileSize = Integer.bitCount(pileCards);
+        int[] digits = new int[pileSize];
+        long pileOrder = second & ((1L << 22) - 1);
+        for (int i = pileSize - 1; i >= 0; i--) {
+            digits[i] = (int) (pileOrder % (pileSize - i));
+            pileOrder /= pileSize - i;
+        }
+        if (pileOrder != 0) {
+            throw new IllegalArgumentException("The encoding does not hold a valid pile order");
+        }
+        for (int i = 0; i < pileSize; i++) {
+            int rest = pileCards;
+            for (int j = 0; j < digits[i]; j++) {
+                rest &= rest - 1;
+            }
+            int card = Integer.numberOfTrailingZeros(rest);
+            pileCards &= ~bit(card);
+            playingCardPile |= (long) card << (CARD_BITS * i);
+        }
+        playingCardPileSize = (byte) pileSize;
+
+        trumpCard = (byte) (first >>> 52 & 0x1F);
+        oldTrumpCard = (byte) ((first >>> 57 & 0x1F) - 1);
+        leadingCard = (byte) leading;
+        marriageCardDeclared = (byte) ((second >>> 22 & 0x1F) - 1);
+        declaredMarriages = (byte) (second >>> 27);
+        player0Score = (byte) (second >>> 35 & 0x7F);
+        player1Score = (byte) (second >>> 42 & 0x7F);
+        player0MarriageTempScore = (byte) ((second >>> 49 & 0x3) * 20);
+        player1MarriageTempScore = (byte) ((second >>> 51 & 0x3) * 20);
+        talonClosingPlayerId = (byte) ((second >>> 53 & 0x3) - 1);
+        talonClosedEnemyScore = (byte) (second >>> 55 & 0x7F);
+        player0Bummerl = (byte) (third & 0xF);
+        player1Bummerl = (byte) (third >>> 4 & 0xF);
+        startingPlayer = (byte) (third >>> 8 & 0x1);
+        playerTurnId = (byte) (third >>> 9 & 0x1);
+        bummerlMax = (int) (third >>> 10 & 0xFFFF);
+        player0BummerlAmount = (int) (third >>> 26 & 0xFFFF);
+        player1BummerlAmount = (int) (third >>> 42 & 0xFFFF);
+    }
+
+    /**
+     * Describes everything the board holds about the cards of one suit, so two suits with the same signature
+     * can be swapped without changing the board. The order of the tricks is left out, as it is not part of equals
+     * @param suit ordinal of the suit
+     * @return the location of each card in 4 bits from the Jack to the Ace, the declared marriage card
+     * and the marriages declared in the suit
+     */
+    int suitSignature(int suit) {
+        int signature = 0;
+        for (int rank = 0; rank < 5; rank++) {
+            int card = suit * 5 + rank;
+            int location;
+            if ((player0Cards & bit(card)) != 0) {
+                location = SIGNATURE_HAND;
+            } else if ((player1Cards & bit(card)) != 0) {
+                location = SIGNATURE_HAND + 1;
+            } else if ((player0Tricks & bit(card)) != 0) {
+                location = SIGNATURE_TRICKS;
+            } else if ((player1Tricks & bit(card)) != 0) {
+                location = SIGNATURE_TRICKS + 1;
+            } else if (leadingCard == card) {
+                location = SIGNATURE_LEADING;
+            } else {
+                //hidden cards of a view stay unknown
+                location = SIGNATURE_UNKNOWN;
+                for (int position = 0; position < playingCardPileSize; position++) {
+                    if (pileCard(position) == card) {
+                        location = SIGNATURE_PILE + position;
+                    }
+                }
+            }
+            signature |= location << (4 * rank);
+        }
+        if (marriageCardDeclared != NO_CARD && suitOf(marriageCardDeclared) == suit) {
+            signature |= (marriageCardDeclared % 5) << 20;
+        }
+        signature |= (declaredMarriages >>> suit & 1) << 22;
+        signature |= (declaredMarriages >>> (4 + suit) & 1) << 23;
+        return signature;
+    }
+
+    /**
+     * Creates a copy of the board whose suits are renamed, the trump suit has to be mapped to itself
+     * @param suitMap the suit each suit is renamed to, indexed by the ordinal of the suit
+     * @return a new board without undo frames
+     */
+    SchnapsenBoard permuteSuits(int[] suitMap) {
+        SchnapsenBoard board = new SchnapsenBoard(this);
+        board.possibleActions = null;
+        board.player0Cards = permuteCards(player0Cards, suitMap);
+        board.player1Cards = permuteCards(player1Cards, suitMap);
+        board.playingCardPile = 0;
+        for (int position = 0; position < playingCardPileSize; position++) {
+            board.playingCardPile |= (long) permuteCard(pileCard(position), suitMap) << (CARD_BITS * position);
+        }
+        board.player0Tricks = 0;
+        board.player1Tricks = 0;
+        board.trickHistory = 0;
+        board.trickHistoryTail = 0;
+        int trickCount = trickCount();
+        for (int i = 0; i < trickCount; i++) {
+            int trick = trick(i);
+            board.addTrick(i, permuteCard(trick & (int) CARD_BITS_MASK, suitMap),
+                    permuteCard(trick >>> CARD_BITS & (int) CARD_BITS_MASK, suitMap), trick >>> (2 * CARD_BITS));
+        }
+        board.trumpCard = (byte) permuteCard(trumpCard, suitMap);
+        board.oldTrumpCard = (byte) permuteCard(oldTrumpCard, suitMap);
+        board.leadingCard = (byte) permuteCard(leadingCard, suitMap);
+        board.marriageCardDeclared = (byte) permuteCard(marriageCardDeclared, suitMap);
+        int marriages = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            marriages |= (declaredMarriages >>> suit & 1) << suitMap[suit];
+            marriages |= (declaredMarriages >>> (4 + suit) & 1) << (4 + suitMap[suit]);
+        }
+        board.declaredMarriages = (byte) marriages;
+        board.player0ShownCards = permuteCards(player0ShownCards, suitMap);
+        board.player1ShownCards = permuteCards(player1ShownCards, suitMap);
+        board.zobristKey = board.computeZobristKey();
+        return board;
+    }
+
+    /**
+     * Renames the suit of a card index, NO_CARD and PlaceHolder cards are kept
+     * @param card index of the card
+     * @param suitMap the suit each suit is renamed to
+     * @return index of the renamed card
+     */
+    static int permuteCard(int card, int[] suitMap) {
+        if (card == NO_CARD || card == PLACEHOLDER) {
+            return card;
+        }
+        return suitMap[card / 5] * 5 + card % 5;
+    }
+
+    /**
+     * Renames the suits of a bitmask of cards
+     * @param cards bitmask of card indices
+     * @param suitMap the suit each suit is renamed to
+     * @return bitmask of the renamed cards
+     */
+    static int permuteCards(int cards, int[] suitMap) {
+        int permuted = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            permuted |= (cards >>> (5 * suit) & 0x1F) << (5 * suitMap[suit]);
+        }
+        return permuted;
     }
 
     /**
-     * This method resets the Bummerl and the corresponding scores
+     * Writes the complete board as one line of text, similar to the FEN notation of chess.
+     * The fields are separated by single spaces:
+     * <ol>
+     *     <li>the cards of player 0, e.g. {@code AS10SKHJDQC}, or {@code -} if there are none</li>
+     *     <li>the cards of player 1</li>
+     *     <li>the pile from the card drawn next to the bottom card</li>
+     *     <li>the tricks in the order they were played, leading card first, the winner follows from the rules</li>
+     *     <li>the trump card</li>
+     *     <li>the leading card</li>
+     *     <li>the declared marriage card, which has to be played next</li>
+     *     <li>the suits of the marriages declared by player 0 and player 1, e.g. {@code HS/-}</li>
+     *     <li>the round scores and the marriage scores waiting for a trick: {@code score0/score1/temp0/temp1}</li>
+     *     <li>the closed talon as {@code closingPlayer/enemyScore}, or {@code -} if it is open</li>
+     *     <li>the old trump card of an exchange</li>
+     *     <li>the ids of the starting player and of the player to move: {@code starting/turn}</li>
+     *     <li>the Bummerl counters, the Bummerl amounts and the Bummerl maximum: {@code bummerl0/bummerl1/amount0/amount1/max}</li>
+     *     <li>the seed of the game and the index of the round: {@code seed/round}</li>
+     * </ol>
+     * @return the notation of the board
      */
-    private void resetBummerl() {
-        player0Bummerl = 7;
-        player1Bummerl = 7;
+    public String toNotation() {
+        if (player0HiddenCards != 0 || player1HiddenCards != 0 || leadingCard == PLACEHOLDER) {
+            throw new IllegalArgumentException("Boards with hidden information cannot be written as notation");
+        }
+        StringBuilder builder = new StringBuilder(128);
+        appendCards(builder, player0Cards).append(' ');
+        appendCards(builder, player1Cards).append(' ');
+        if (playingCardPileSize == 0) {
+            builder.append('-');
+        }
+        for (int i = 0; i < playingCardPileSize; i++) {
+            appendCard(builder, pileCard(i));
+        }
+        builder.append(' ');
+        int trickCount = trickCount();
+        if (trickCount == 0) {
+            builder.append('-');
+        }
+        for (int i = 0; i < trickCount; i++) {
+            int trick = trick(i);
+            appendCard(builder, trick >>> CARD_BITS & (int) CARD_BITS_MASK);
+            appendCard(builder, trick & (int) CARD_BITS_MASK);
+        }
+        builder.append(' ');
+        appendCard(builder, trumpCard).append(' ');
+        appendCard(builder, leadingCard).append(' ');
+        appendCard(builder, marriageCardDeclared).append(' ');
+        appendSuits(builder, declaredMarriages & 0xF).append('/');
+        appendSuits(builder, declaredMarriages >>> 4 & 0xF).append(' ');
+        builder.append(player0Score).append('/').append(player1Score).append('/')
+                .append(player0MarriageTempScore).append('/').append(player1MarriageTempScore).append(' ');
+        if (talonClosingPlayerId == -1) {
+            builder.append('-');
+        } else {
+            builder.append(talonClosingPlayerId).append('/').append(talonClosedEnemyScore);
+        }
+        builder.append(' ');
+        appendCard(builder, oldTrumpCard).append(' ');
+        builder.append(startingPlayer).append('/').append(playerTurnId).append(' ');
+        builder.append(player0Bummerl).append('/').append(player1Bummerl).append('/')
+                .append(player0BummerlAmount).append('/').append(player1BummerlAmount).append('/').append(bummerlMax).append(' ');
+        builder.append(gameSeed).append('/').append(roundIndex);
+        return builder.toString();
     }
 
     /**
-     * Checks if one of the players has reached the Bummerl maximum, and therefore a game over state
-     * @return boolean if the game is over
+     * Creates a board from a line written by toNotation
+     * @param notation the notation of the board
+     * @return a new board with the state of the notation
      */
-    public boolean isGameOver() {
-        return player0BummerlAmount >= bummerlMax || player1BummerlAmount >= bummerlMax;
+    public static SchnapsenBoard fromNotation(String notation) {
+        if (notation == null) {
+            throw new IllegalArgumentException("notation cannot be null");
+        }
+        return new SchnapsenBoard(new NotationReader(notation.trim()));
     }
 
     /**
-     * This method checks the players scores and returns true if the round is over,
-     * as the total possible score without marriages is 120 it is possible that no player has 66 or more points (especially when the talon was closed),
-     * therefore the player card piles are checked as well
-     * @return boolean to check if round is over
+     * This constructor is used by fromNotation, it reads the fields in the order they are written by toNotation
+     * @param reader the reader positioned at the first field
      */
-    private boolean isRoundOver() {
-        return player1Score >= 66 || player0Score >= 66 || player0Cards.isEmpty() && player1Cards.isEmpty();
+    private SchnapsenBoard(NotationReader reader) {
+        int hand0 = reader.cards();
+        int hand1 = reader.cards();
+        int[] pile = reader.cardList();
+        int[] tricks = reader.cardList();
+        trumpCard = (byte) reader.cardField();
+        leadingCard = (byte) reader.optionalCard();
+        marriageCardDeclared = (byte) reader.optionalCard();
+        declaredMarriages = (byte) (reader.suits('/') | reader.suits(' ') << 4);
+        player0Score = (byte) reader.number('/', 127);
+        player1Score = (byte) reader.number('/', 127);
+        player0MarriageTempScore = (byte) reader.number('/', 40);
+        player1MarriageTempScore = (byte) reader.number(' ', 40);
+        if (reader.skipEmpty()) {
+            talonClosingPlayerId = -1;
+        } else {
+            talonClosingPlayerId = (byte) reader.number('/', 1);
+            talonClosedEnemyScore = (byte) reader.number(' ', 127);
+        }
+        oldTrumpCard = (byte) reader.optionalCard();
+        startingPlayer = (byte) reader.number('/', 1);
+        playerTurnId = (byte) reader.number(' ', 1);
+        player0Bummerl = (byte) reader.number('/', 7);
+        player1Bummerl = (byte) reader.number('/', 7);
+        player0BummerlAmount = reader.number('/', Integer.MAX_VALUE);
+        player1BummerlAmount = reader.number('/', Integer.MAX_VALUE);
+        bummerlMax = reader.number(' ', Integer.MAX_VALUE);
+        gameSeed = reader.signedLong('/');
+        roundIndex = reader.number(NotationReader.END, Integer.MAX_VALUE);
+
+        int seen = hand0 | hand1;
+        int count = Integer.bitCount(hand0) + Integer.bitCount(hand1) + pile.length + tricks.length;
+        for (int card : pile) seen |= bit(card);
+        for (int card : tricks) seen |= bit(card);
+        if (leadingCard != NO_CARD) {
+            seen |= bit(leadingCard);
+            count++;
+        }
+        if (count != CARD_COUNT || seen != ALL_CARDS || tricks.length % 2 != 0) {
+            throw new IllegalArgumentException("The notation has to hold every card exactly once: " + reader.notation);
+        }
+        if (pile.length != 0 && pile[pile.length - 1] != trumpCard) {
+            throw new IllegalArgumentException("The trump card has to be the bottom card of the pile: " + reader.notation);
+        }
+
+        for (int card = 0; card < CARD_COUNT; card++) {
+            if ((hand0 & bit(card)) != 0) addToHand(0, card);
+            if ((hand1 & bit(card)) != 0) addToHand(1, card);
+        }
+        for (int i = 0; i < pile.length; i++) {
+            playingCardPile |= (long) pile[i] << (CARD_BITS * i);
+        }
+        playingCardPileSize = (byte) pile.length;
+        int trumpSuit = suitOf(trumpCard);
+        for (int i = 0; i < tricks.length; i += 2) {
+            int lead = tricks[i];
+            int follow = tricks[i + 1];
+            boolean followWins = suitOf(follow) == suitOf(lead) ? valueOf(follow) > valueOf(lead) : suitOf(follow) == trumpSuit;
+            //the leading player of a trick is the winner of the trick before it, or the starting player for the first trick
+            int leader = i == 0 ? startingPlayer : trick(i / 2 - 1) >>> (2 * CARD_BITS);
+            addTrick(i / 2, follow, lead, followWins ? 1 - leader : leader);
+        }
+        deriveShownCards();
+        zobristKey = computeZobristKey();
+    }
+
+    private static StringBuilder appendCard(StringBuilder builder, int card) {
+        return builder.append(card == NO_CARD ? "-" : CardName.values()[card].toString());
+    }
+
+    private static StringBuilder appendCards(StringBuilder builder, int cards) {
+        if (cards == 0) {
+            return builder.append('-');
+        }
+        for (; cards != 0; cards &= cards - 1) {
+            appendCard(builder, Integer.numberOfTrailingZeros(cards));
+        }
+        return builder;
+    }
+
+    private static StringBuilder appendSuits(StringBuilder builder, int suits) {
+        if (suits == 0) {
+            return builder.append('-');
+        }
+        for (int suit = 0; suit < 4; suit++) {
+            if ((suits & 1 << suit) != 0) {
+                builder.append(NotationReader.SUITS.charAt(suit));
+            }
+        }
+        return builder;
     }
 
     /**
-     * This method resets the round as long as the game is not over
+     * Reads the fields of a notation one after the other, without splitting the string
      */
-    private void resetRound() {
-        if(!isGameOver())
-        {
-            //resetting round scores
-            player0Score = 0;
-            player1Score = 0;
+    private static final class NotationReader {
+        private static final String SUITS = "SHDC";
+        private static final char END = 0;
 
-            //resetting hands
-            player0Cards.clear();
-            player1Cards.clear();
+        private final String notation;
+        private int position;
 
-            //resetting tricks
-            player0Tricks.clear();
-            player1Tricks.clear();
+        private NotationReader(String notation) {
+            this.notation = notation;
+        }
 
-            //resetting pile
-            playingCardPile.clear();
+        private IllegalArgumentException error(String expected) {
+            return new IllegalArgumentException("Expected " + expected + " at position " + position + " of the notation: " + notation);
+        }
 
-            //resetting marriage scores and card
-            player0MarriageTempScore = 0;
-            player1MarriageTempScore = 0;
-            marriageCardDeclared = null;
+        private char peek() {
+            return position < notation.length() ? notation.charAt(position) : END;
+        }
 
-            //resetting tracked marriage cards
-            player0Marriages.clear();
-            player1Marriages.clear();
+        private void expect(char separator) {
+            if (peek() != separator) {
+                throw error(separator == END ? "the end" : "'" + separator + "'");
+            }
+            position++;
+        }
 
-            //resetting talon logic
-            talonClosed = false;
-            talonClosingPlayerId = -1;
-            talonClosedEnemyScore = 0;
+        /**
+         * Skips a '-' and the space after it, if the field is empty
+         */
+        private boolean skipEmpty() {
+            if (peek() != '-') {
+                return false;
+            }
+            position++;
+            expect(' ');
+            return true;
+        }
 
-            //resetting trumps
-            trumpCard = null;
-            trumpSuit = null;
-            oldTrumpCard = null;
+        private int card() {
+            int value;
+            switch (peek()) {
+                case 'J': value = 0; break;
+                case 'Q': value = 1; break;
+                case 'K': value = 2; break;
+                case 'A': value = 4; break;
+                case '1':
+                    position++;
+                    if (peek() != '0') throw error("a card");
+                    value = 3;
+                    break;
+                default: throw error("a card");
+            }
+            position++;
+            int suit = SUITS.indexOf(peek());
+            if (suit < 0 || peek() == END) {
+                throw error("a suit");
+            }
+            position++;
+            return suit * 5 + value;
+        }
 
-            //resetting leading card
-            leadingCard = null;
+        /**
+         * Reads a field of one card or '-' followed by a space
+         */
+        private int optionalCard() {
+            if (skipEmpty()) {
+                return NO_CARD;
+            }
+            int card = card();
+            expect(' ');
+            return card;
+        }
 
-            //setting playerTurnId to starting player
-            playerTurnId = startingPlayer;
+        /**
+         * Reads a field of cards followed by a space as a bitmask
+         */
+        private int cards() {
+            int cards = 0;
+            for (int card : cardList()) {
+                if ((cards & bit(card)) != 0) {
+                    throw error("every card once");
+                }
+                cards |= bit(card);
+            }
+            return cards;
+        }
 
-            //starting new round
-            roundInitialisation();
+        /**
+         * Reads a field of cards followed by a space in their order
+         */
+        private int[] cardList() {
+            if (skipEmpty()) {
+                return new int[0];
+            }
+            int[] cards = new int[CARD_COUNT];
+            int count = 0;
+            while (peek() != ' ') {
+                if (count == CARD_COUNT) {
+                    throw error("at most " + CARD_COUNT + " cards");
+                }
+                cards[count++] = card();
+            }
+            position++;
+            return Arrays.copyOf(cards, count);
+        }
+
+        /**
+         * Reads the field of the trump card, which is always present
+         */
+        private int cardField() {
+            int card = card();
+            expect(' ');
+            return card;
+        }
+
+        private int suits(char separator) {
+            if (peek() == '-') {
+                position++;
+                expect(separator);
+                return 0;
+            }
+            int suits = 0;
+            while (peek() != separator) {
+                int suit = SUITS.indexOf(peek());
+                if (suit < 0 || peek() == END) {
+                    throw error("a suit");
+                }
+                suits |= 1 << suit;
+                position++;
+            }
+            position++;
+            return suits;
+        }
+
+        private int number(char separator, int max) {
+            long value = signedLong(separator);
+            if (value < 0 || value > max) {
+                position--;
+                throw error("a number between 0 and " + max);
+            }
+            return (int) value;
+        }
+
+        private long signedLong(char separator) {
+            int start = position;
+            if (peek() == '-') {
+                position++;
+            }
+            while (peek() >= '0' && peek() <= '9') {
+                position++;
+            }
+            if (position == start || position == start + 1 && notation.charAt(start) == '-') {
+                throw error("a number");
+            }
+            long value;
+            try {
+                value = Long.parseLong(notation, start, position, 10);
+            } catch (NumberFormatException e) {
+                throw error("a number");
+            }
+            expect(separator);
+            return value;
         }
     }
 
     /**
-     * If the overall score of one player is 0 or lower the current Bummerl is over (counted down from 7)
-     * @return boolean that checks if the game is over
+     * Boards are equal if their state of the game is equal, the seed of the game, the undo frames and
+     * the order in which the tricks were played are not part of the state
      */
-    public boolean isBummerlOver() {
-        return player0Bummerl <= 0 || player1Bummerl <= 0;
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null)
+            return false;
+        if (obj == this)
+            return true;
+        if (obj.getClass() != this.getClass()) {
+            return false;
+        } else {
+            SchnapsenBoard other = (SchnapsenBoard) obj;
+            return zobristKey == other.zobristKey &&
+                    player0Cards == other.player0Cards &&
+                    player1Cards == other.player1Cards &&
+                    player0HiddenCards == other.player0HiddenCards &&
+                    player1HiddenCards == other.player1HiddenCards &&
+                    playingCardPile == other.playingCardPile &&
+                    playingCardPileSize == other.playingCardPileSize &&
+                    player0Tricks == other.player0Tricks &&
+                    player1Tricks == other.player1Tricks &&
+                    player0Score == other.player0Score &&
+                    player1Score == other.player1Score &&
+                    player0Bummerl == other.player0Bummerl &&
+                    player1Bummerl == other.player1Bummerl &&
+                    bummerlMax == other.bummerlMax &&
+                    player0BummerlAmount == other.player0BummerlAmount &&
+                    player1BummerlAmount == other.player1BummerlAmount &&
+                    player0MarriageTempScore == other.player0MarriageTempScore &&
+                    player1MarriageTempScore == other.player1MarriageTempScore &&
+                    marriageCardDeclared == other.marriageCardDeclared &&
+                    declaredMarriages == other.declaredMarriages &&
+                    talonClosingPlayerId == other.talonClosingPlayerId &&
+                    talonClosedEnemyScore == other.talonClosedEnemyScore &&
+                    trumpCard == other.trumpCard &&
+                    oldTrumpCard == other.oldTrumpCard &&
+                    leadingCard == other.leadingCard &&
+                    startingPlayer == other.startingPlayer &&
+                    playerTurnId == other.playerTurnId;
+        }
     }
 
-
-
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristKey);
+    }
 
     @Override
     public String toString() {
         String leadCard = "";
-        if (leadingCard != null) {
-            leadCard = "Leading Card: " + leadingCard + "\n" + "--------------------\n";
+        if (leadingCard != NO_CARD) {
+            leadCard = "Leading Card: " + card(leadingCard) + "\n" + "--------------------\n";
         } else {
             leadCard = "--------------------\n";
         }
 
+        CardSuit trumpSuit = getTrumpSuit();
         String talonCards = "";
-        if(talonClosed) {
+        if(isTalonClosed()) {
             talonCards = "Talon closed by Player " + (talonClosingPlayerId) + ", trump suit: " + switch (trumpSuit) {case SPADES -> "(S)pades"; case HEARTS ->  "(H)earts"; case DIAMONDS ->  "(D)iamonds"; case CLUBS -> "(C)lubs";} + "\n";
-        } else if (this.playingCardPile.isEmpty()) {
+        } else if (playingCardPileSize == 0) {
             talonCards = "Playing pile empty, trump suit: " + switch (trumpSuit) {case SPADES -> "(S)pades"; case HEARTS ->  "(H)earts"; case DIAMONDS ->  "(D)iamonds"; case CLUBS -> "(C)lubs";} + "\n";
         } else {
-            talonCards ="Remaining Cards: " + playingCardPile.size() + " Trump Card: " + trumpCard.toString() + "\n";
+            talonCards ="Remaining Cards: " + playingCardPileSize + " Trump Card: " + card(trumpCard).toString() + "\n";
         }
 
         String bummerlPlayer0 = "°".repeat(Math.max(0, player0BummerlAmount));
@@ -1112,21 +2455,25 @@ public class SchnapsenBoard {
         String player0CardsString = "";
         String player1CardsString = "";
 
+        //the cards of the current player are sorted with their trump cards first
+        Comparator<PlayingCard> handOrder = Comparator.comparing((PlayingCard card) -> !isTrump(card)).thenComparing(Comparator.naturalOrder());
         if(playerTurnId == 0) {
-          Set<PlayingCard> player0Set = new TreeSet<>(player0Cards);
+          Set<PlayingCard> player0Set = new TreeSet<>(handOrder);
+          player0Set.addAll(cardList(player0Cards, player0HiddenCards));
           player0CardsString = player0Set.toString();
-          player1CardsString = player1Cards.toString();
+          player1CardsString = cardList(player1Cards, player1HiddenCards).toString();
         } else {
-          Set<PlayingCard> player1Set = new TreeSet<>(player1Cards);
+          Set<PlayingCard> player1Set = new TreeSet<>(handOrder);
+          player1Set.addAll(cardList(player1Cards, player1HiddenCards));
           player1CardsString = player1Set.toString();
-          player0CardsString = player0Cards.toString();
+          player0CardsString = cardList(player0Cards, player0HiddenCards).toString();
         }
 
         String sb =
                 "-------------------\n" +
                 ".... SCHNAPSEN ´´´´\n" +
                 "-------------------\n" +
-                "Player 0's Hand: " + player0CardsString + " Player 0's Score: " + player0Score + " Player 0's Tricks: " + player0Tricks.stream()
+                "Player 0's Hand: " + player0CardsString + " Player 0's Score: " + player0Score + " Player 0's Tricks: " + getPlayer0Tricks().stream()
                         .map(Arrays::toString) // Converts each PlayingCard[] to a readable String
                         .collect(Collectors.joining(", ", "[", "]")) + "\n" +
                 "--------------------\n" +
@@ -1135,7 +2482,7 @@ public class SchnapsenBoard {
                 leadCard +
                 //"Drawing Pile: " + playingCardPile + "\n" + //-> for testing
                 //"--------------------\n" +
-                "Player 1's Hand: " + player1CardsString + " Player 1's Score: " + player1Score + " Player 1's Tricks: " + player1Tricks.stream()
+                "Player 1's Hand: " + player1CardsString + " Player 1's Score: " + player1Score + " Player 1's Tricks: " + getPlayer1Tricks().stream()
                 .map(Arrays::toString) // Converts each PlayingCard[] to a readable String
                 .collect(Collectors.joining(", ", "[", "]")) + "\n" +
                 "--------------------\n" +
@@ -1203,39 +2550,109 @@ public class SchnapsenBoard {
         }
     }
 
+
     /**
      * This method strips all information of the game that is not tied to the player.
      * This includes all the cards in the drawing pile (except the trump card)
-     * and the cards in the opposing players hand.
+     * and the cards in the opposing players hand, except the cards the opponent has shown and still holds,
+     * as a declared marriage or the exchanged trump card, which are public.
      * The removed cards are replaced by a placeholder card
      */
     public void hideInformation(int playerId) {
+        possibleActions = null;
         if (playerId != 0 && playerId != 1) {
             throw new IllegalArgumentException("playerId must be 0 or 1");
         }
         if (playerId == 0) {
-            int player1CardNum = player1Cards.size();
-            player1Cards.clear();
-            for (int i = 0; i < player1CardNum; i++) {
-                player1Cards.add(new PlayingCard(CardSuit.SPADES, CardName.PlaceHolder, 0));
-            }
+            int shown = player1Cards & player1ShownCards;
+            player1HiddenCards = (byte) (player1HiddenCards + Integer.bitCount(player1Cards & ~shown));
+            player1Cards = shown;
         } else {
-            int player0CardNum = player0Cards.size();
-            player0Cards.clear();
-            for (int i = 0; i < player0CardNum; i++) {
-                player0Cards.add(new PlayingCard(CardSuit.SPADES, CardName.PlaceHolder, 0));
-            }
+            int shown = player0Cards & player0ShownCards;
+            player0HiddenCards = (byte) (player0HiddenCards + Integer.bitCount(player0Cards & ~shown));
+            player0Cards = shown;
         }
 
-        int playingCardNum = playingCardPile.size();
         //only add hidden cards and a trumpCard at the bottom of the deck if it is not empty yet
-        if(playingCardNum != 0) {
-            playingCardPile.clear();
-            for (int i = 0; i < playingCardNum - 1; i++) {
-                playingCardPile.add(new PlayingCard(CardSuit.SPADES, CardName.PlaceHolder, 0));
+        if(playingCardPileSize != 0) {
+            playingCardPile = 0;
+            for (int i = 0; i < playingCardPileSize - 1; i++) {
+                playingCardPile |= (long) PLACEHOLDER << (CARD_BITS * i);
+            }
+            playingCardPile |= (long) trumpCard << (CARD_BITS * (playingCardPileSize - 1));
+        }
+        zobristKey = computeZobristKey();
+    }
+
+    /**
+     * Fills in the hidden cards of a view that follow from the rest of the board. Once the pile is empty, every card
+     * that is neither in the player's hand, in a trick nor the leading card has to be in the opponent's hand,
+     * so the information set of the view holds this one board only and it can be searched exactly
+     * @return true if the view has no hidden cards left in the hands, the pile or the leading card
+     */
+    public boolean revealKnownCards() {
+        possibleActions = null;
+        if (playingCardPileSize == 0 && (player0HiddenCards == 0) != (player1HiddenCards == 0) && leadingCard != PLACEHOLDER) {
+            int hiddenPlayerId = player0HiddenCards != 0 ? 0 : 1;
+            int missing = ALL_CARDS & ~(player0Cards | player1Cards | player0Tricks | player1Tricks);
+            if (leadingCard != NO_CARD) {
+                missing &= ~bit(leadingCard);
+            }
+            //PlaceHolder cards played in tricks leave more cards missing than are hidden, then the hand is not known
+            if (Integer.bitCount(missing) == hiddenCards(hiddenPlayerId)) {
+                for (; missing != 0; missing &= missing - 1) {
+                    removeFromHand(hiddenPlayerId, PLACEHOLDER);
+                    addToHand(hiddenPlayerId, Integer.numberOfTrailingZeros(missing));
+                }
+            }
+        }
+        boolean hiddenPile = false;
+        for (int position = 0; position < playingCardPileSize; position++) {
+            hiddenPile |= pileCard(position) == PLACEHOLDER;
+        }
+        return player0HiddenCards == 0 && player1HiddenCards == 0 && leadingCard != PLACEHOLDER && !hiddenPile;
+    }
+
+    /**
+     * helper method to create a list view of a hand
+     * @param cards the bitmask of the cards
+     * @param hiddenCards the amount of PlaceHolder cards
+     * @return an unmodifiable list of the cards
+     */
+    List<PlayingCard> cardList(int cards, int hiddenCards) {
+        return new CardList(cards, hiddenCards);
+    }
+
+    /**
+     * helper method to create the list of tricks taken by one player
+     * @param playerId id of the player
+     * @return PlayingCard pairs of following and leading card in the order they were played
+     */
+    private List<PlayingCard[]> trickList(int playerId) {
+        List<PlayingCard[]> tricks = new ArrayList<>();
+        int trickCount = trickCount();
+        for (int i = 0; i < trickCount; i++) {
+            int trick = trick(i);
+            if (trick >>> (2 * CARD_BITS) == playerId) {
+                tricks.add(new PlayingCard[]{card(trick & (int) CARD_BITS_MASK), card(trick >>> CARD_BITS & (int) CARD_BITS_MASK)});
+            }
+        }
+        return Collections.unmodifiableList(tricks);
+    }
+
+    /**
+     * helper method to create the list of marriage cards declared by one player
+     * @param playerId id of the player
+     * @return the Queen and King of every declared marriage
+     */
+    private List<PlayingCard> marriageList(int playerId) {
+        int marriages = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            if ((declaredMarriages & 1 << (4 * playerId + suit)) != 0) {
+                marriages |= bit(suit * 5 + 1) | bit(suit * 5 + 2);
             }
-            playingCardPile.addLast(trumpCard);
         }
+        return cardList(marriages, 0);
     }
 
     /**
@@ -1244,7 +2661,7 @@ public class SchnapsenBoard {
      */
     public List<PlayingCard> getPlayer1Cards() {
         if(this.getPlayerTurnId()== 1)
-            return Collections.unmodifiableList(player1Cards);
+            return cardList(player1Cards, player1HiddenCards);
         else
             return Collections.emptyList();
     }
@@ -1255,7 +2672,7 @@ public class SchnapsenBoard {
      */
     public List<PlayingCard> getPlayer0Cards() {
         if(this.getPlayerTurnId()== 0)
-            return Collections.unmodifiableList(player0Cards);
+            return cardList(player0Cards, player0HiddenCards);
         else
             return Collections.emptyList();
     }
@@ -1265,7 +2682,7 @@ public class SchnapsenBoard {
      * @return PlayingCard of the current leading card, can be null if no card is lead
      */
     public PlayingCard getLeadingCard() {
-        return leadingCard;
+        return card(leadingCard);
     }
 
     /**
@@ -1273,7 +2690,253 @@ public class SchnapsenBoard {
      * @return PlayingCard the present trump card of the round
      */
     public PlayingCard getTrumpCard() {
-        return trumpCard;
+        return card(trumpCard);
+    }
+
+    /**
+     * Returns the current rounds trump suit
+     * @return CardSuit of the trump card
+     */
+    public CardSuit getTrumpSuit() {
+        return card(trumpCard).getSuit();
+    }
+
+    /**
+     * Information if a card is of the trump suit of the current round, PlaceHolder cards are never a trump
+     * @param card the card to be checked
+     * @return true if the card is a trump
+     */
+    public boolean isTrump(PlayingCard card) {
+        if (card == null) {
+            throw new IllegalArgumentException("card cannot be null");
+        }
+        return isTrump(indexOf(card));
+    }
+
+    /**
+     * Returns the actions the current player may take, the set is computed on the first call and kept until the board changes
+     * @return an unmodifiable set of the possible actions, empty if the game is over
+     */
+    public Set<SchnapsenAction> getPossibleActions() {
+        Set<SchnapsenAction> actions = possibleActions;
+        if (actions == null) {
+            actions = SchnapsenAction.computePossibleActions(this);
+            possibleActions = actions;
+        }
+        return actions;
+    }
+
+    /**
+     * Returns the cards the current player is allowed to play right now as a bitmask over the card indices.
+     * Bit 20 stands for a PlaceHolder card, if the player holds hidden cards that may be played.
+     * When following with a closed talon or an empty pile the must follow suit and must take trick rules are applied
+     * @return bitmask of the playable cards, 0 if the game is over
+     */
+    public int getPlayableCards() {
+        if (isGameOver()) {
+            return 0;
+        }
+        int cards = hand(playerTurnId) | (hiddenCards(playerTurnId) > 0 ? 1 << PLACEHOLDER : 0);
+
+        if (leadingCard == NO_CARD) {
+            //after declaring a marriage the player may only play one of the marriage partners
+            if (marriageCardDeclared != NO_CARD) {
+                int marriage = bit(marriageCardDeclared) | bit(marriagePartner(marriageCardDeclared));
+                if ((cards & marriage) != marriage) {
+                    throw new IllegalStateException("Marriage cards not found after declaring marriage");
+                }
+                return marriage;
+            }
+            return cards;
+        }
+
+        //talon is not closed and pile is not empty, every card can be played
+        if (!isTalonClosed() && playingCardPileSize != 0) {
+            return cards;
+        }
+
+        return followingCards(cards, leadingCard, trumpSuit());
+    }
+
+    /**
+     * Applies the must follow suit and must take trick rules of a closed talon or an empty pile to the cards of the following player
+     * @param cards bitmask of the cards of the following player, bit 20 stands for PlaceHolder cards
+     * @param leadingCard index of the leading card
+     * @param trumpSuit ordinal of the trump suit
+     * @return bitmask of the cards that may be played
+     */
+    static int followingCards(int cards, int leadingCard, int trumpSuit) {
+        //1. Rule: follow suit and take the trick
+        int higher = cards & higherCards(leadingCard);
+        if (higher != 0) {
+            return higher;
+        }
+        //2. Rule: follow suit, PlaceHolder cards count as spades
+        int suit = cards & (suitMask(suitOf(leadingCard)) | (suitOf(leadingCard) == 0 ? 1 << PLACEHOLDER : 0));
+        if (suit != 0) {
+            return suit;
+        }
+        //3. Rule: take the trick with a trump
+        int trumps = cards & suitMask(trumpSuit);
+        if (trumps != 0) {
+            return trumps;
+        }
+        //4. Rule: every card can be played
+        return cards;
+    }
+
+    /**
+     * Returns the cards in the hand of the player that the opponent has seen: an exchanged trump card,
+     * the unplayed cards of declared marriages and the trump card drawn as the last card of the pile
+     * @param playerId id of the player holding the cards
+     * @return bitmask of the shown cards
+     */
+    public int getShownCards(int playerId) {
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+        return playerId == 0 ? player0ShownCards : player1ShownCards;
+    }
+
+    /**
+     * Returns the cards whose place the player does not know from the perspective of the player: cards that are neither in their hand,
+     * in a trick, the leading card, the face up trump card at the bottom of the pile nor shown in the opponent's hand
+     * @param playerId id of the player
+     * @return bitmask of the cards in the opponent's hand or the pile that the player has not seen
+     */
+    public int getUnseenCards(int playerId) {
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+        int seen = hand(playerId) | player0Tricks | player1Tricks | getShownCards(1 - playerId);
+        if (leadingCard != NO_CARD) {
+            seen |= bit(leadingCard);
+        }
+        if (playingCardPileSize != 0) {
+            seen |= bit(trumpCard);
+        }
+        return ALL_CARDS & ~seen;
+    }
+
+    /**
+     * Returns the trumps the player does not hold and that were not played yet, they are in the opponent's hand or the pile
+     * @param playerId id of the player
+     * @return bitmask of the outstanding trump cards
+     */
+    public int getOutstandingTrumps(int playerId) {
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+        int played = player0Tricks | player1Tricks | (leadingCard != NO_CARD ? bit(leadingCard) : 0);
+        return suitMask(trumpSuit()) & ~hand(playerId) & ~played;
+    }
+
+    /**
+     * Returns the points of the cards that are not in a trick yet, including the leading card
+     * @return points still to be won by tricks
+     */
+    public int getPointsInPlay() {
+        return TOTAL_POINTS - pointsOf(player0Tricks | player1Tricks);
+    }
+
+    /**
+     * Returns the points of the cards the player has not seen
+     * @param playerId id of the player
+     * @return points of getUnseenCards
+     */
+    public int getUnseenPoints(int playerId) {
+        return pointsOf(getUnseenCards(playerId));
+    }
+
+    /**
+     * Checks if the player could still reach 66 points in this round, if they won every remaining trick
+     * and declared every marriage whose cards are neither played nor shown in the opponent's hand.
+     * Marriages the player has already declared are counted once, by the score or the marriage score waiting for a trick
+     * @param playerId id of the player
+     * @return false if 66 points are out of reach for the player
+     */
+    public boolean canReach66(int playerId) {
+        if (playerId != 0 && playerId != 1) {
+            throw new IllegalArgumentException("playerId must be 0 or 1");
+        }
+        int points = (playerId == 0 ? player0Score + player0MarriageTempScore : player1Score + player1MarriageTempScore) + getPointsInPlay();
+        if (points >= WINNING_SCORE) {
+            return true;
+        }
+        int blocked = player0Tricks | player1Tricks | getShownCards(1 - playerId);
+        if (leadingCard != NO_CARD) {
+            blocked |= bit(leadingCard);
+        }
+        int ownShown = getShownCards(playerId);
+        for (int suit = 0; suit < 4; suit++) {
+            int marriage = bit(suit * 5 + 1) | bit(suit * 5 + 2);
+            //both cards shown by the player are a marriage declared before the first trick, its score is still waiting
+            boolean declared = (declaredMarriages & (1 << suit | 1 << (4 + suit))) != 0 || (ownShown & marriage) == marriage
+                    || marriageCardDeclared != NO_CARD && suitOf(marriageCardDeclared) == suit;
+            if ((blocked & marriage) == 0 && !declared) {
+                points += suit == trumpSuit() ? 40 : 20;
+            }
+        }
+        return points >= WINNING_SCORE;
+    }
+
+    /**
+     * Returns the points of a bitmask of cards with one table lookup per suit
+     * @param cards bitmask of card indices, the PlaceHolder bit is ignored
+     * @return the summed values of the cards
+     */
+    static int pointsOf(int cards) {
+        return SUIT_POINTS[cards & 0x1F] + SUIT_POINTS[cards >>> 5 & 0x1F]
+                + SUIT_POINTS[cards >>> 10 & 0x1F] + SUIT_POINTS[cards >>> 15 & 0x1F];
+    }
+
+    private static int[] createSuitPoints() {
+        int[] points = new int[32];
+        for (int cards = 0; cards < 32; cards++) {
+            for (int rank = 0; rank < 5; rank++) {
+                if ((cards & 1 << rank) != 0) {
+                    points[cards] += CARD_VALUES[rank];
+                }
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Returns the suits the current player could declare a marriage of right now
+     * @return bitmask of the suit ordinals (bit 0-3), 0 if the player is not leading or already declared a marriage
+     */
+    public int getDeclarableMarriages() {
+        if (isGameOver() || leadingCard != NO_CARD || marriageCardDeclared != NO_CARD) {
+            return 0;
+        }
+        int cards = hand(playerTurnId);
+        int suits = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            //Queen and King are the second and third card of a suit
+            int marriage = 0b110 << (CARD_BITS * suit);
+            if ((cards & marriage) == marriage) {
+                suits |= 1 << suit;
+            }
+        }
+        return suits;
+    }
+
+    /**
+     * Checks if the current player could exchange the trump card right now
+     * @return true if the player is leading, the talon is open and they hold the Jack of trumps
+     */
+    public boolean canExchangeTrumpCard() {
+        return canCloseTalon() && (hand(playerTurnId) & bit(trumpSuit() * 5)) != 0;
+    }
+
+    /**
+     * Checks if the current player could close the talon right now
+     * @return true if the player is leading without a declared marriage and the talon is neither closed nor empty
+     */
+    public boolean canCloseTalon() {
+        return !isGameOver() && leadingCard == NO_CARD && marriageCardDeclared == NO_CARD
+                && !isTalonClosed() && playingCardPileSize != 0;
     }
 
     /**
@@ -1282,7 +2945,7 @@ public class SchnapsenBoard {
      * @return true if talon has been close this round
      */
     public boolean isTalonClosed() {
-        return talonClosed;
+        return talonClosingPlayerId != -1;
     }
 
     /**
@@ -1292,7 +2955,7 @@ public class SchnapsenBoard {
      */
     public boolean playingCardPileIsEmpty()
     {
-        return playingCardPile.isEmpty();
+        return playingCardPileSize == 0;
     }
 
     /**
@@ -1300,7 +2963,7 @@ public class SchnapsenBoard {
      * @return a number of cards left in drawing pile
      */
     public int playingCardsLeftInPile() {
-        return playingCardPile.size();
+        return playingCardPileSize;
     }
 
     /**
@@ -1308,7 +2971,7 @@ public class SchnapsenBoard {
      * @return PlayingCard of the marriage card declared, returns null if no declaration was made
      */
     public PlayingCard getMarriageCardDeclared() {
-        return marriageCardDeclared;
+        return card(marriageCardDeclared);
     }
 
     /**
@@ -1316,7 +2979,7 @@ public class SchnapsenBoard {
      * @return PlayingCard list of tricks taken by player 0
      */
     public List<PlayingCard[]> getPlayer0Tricks() {
-        return player0Tricks;
+        return trickList(0);
     }
 
     /**
@@ -1324,7 +2987,7 @@ public class SchnapsenBoard {
      * @return PlayingCard list of tricks taken by player 1
      */
     public List<PlayingCard[]> getPlayer1Tricks() {
-        return player1Tricks;
+        return trickList(1);
     }
 
     /**
@@ -1332,7 +2995,7 @@ public class SchnapsenBoard {
      * @return The marriages player 1 has declared in form of a List of PlayingCards
      */
     public List<PlayingCard> getPlayer1Marriages() {
-        return player1Marriages;
+        return marriageList(1);
     }
 
     /**
@@ -1340,7 +3003,7 @@ public class SchnapsenBoard {
      * @return The marriages player 0 has declared in form of a List of PlayingCards
      */
     public List<PlayingCard> getPlayer0Marriages() {
-        return player0Marriages;
+        return marriageList(0);
     }
 
     /**
@@ -1348,7 +3011,7 @@ public class SchnapsenBoard {
      * @return the old trump card as a PlayingCard that has been exchanged for the new one
      */
     public PlayingCard getOldTrumpCard() {
-        return oldTrumpCard;
+        return card(oldTrumpCard);
     }
 
     /**
@@ -1406,4 +3069,49 @@ public class SchnapsenBoard {
     public int getPlayer1BummerlAmount() {
         return player1BummerlAmount;
     }
+
+    /**
+     * Returns the seed of the game, which together with the round index determines the deal of the round
+     * @return the seed of the game
+     */
+    public long getGameSeed() {
+        return gameSeed;
+    }
+
+    /**
+     * Returns the number of rounds that were played before the current round
+     * @return the index of the current round
+     */
+    public int getRoundIndex() {
+        return roundIndex;
+    }
+
+    /**
+     * Unmodifiable list view of a bitmask of cards followed by a number of hidden cards, the cards are listed in the order of their index
+     */
+    private static final class CardList extends AbstractList<PlayingCard> {
+        private final int cards;
+        private final int hiddenCards;
+
+        private CardList(int cards, int hiddenCards) {
+            this.cards = cards;
+            this.hiddenCards = hiddenCards;
+        }
+
+        @Override
+        public PlayingCard get(int index) {
+            Objects.checkIndex(index, size());
+            //removing the lowest bits until the card at the given index is the lowest one
+            int remaining = cards;
+            for (int i = 0; i < index && remaining != 0; i++) {
+                remaining &= remaining - 1;
+            }
+            return PlayingCard.of(remaining != 0 ? Integer.numberOfTrailingZeros(remaining) : PLACEHOLDER);
+        }
+
+        @Override
+        public int size() {
+            return Integer.bitCount(cards) + hiddenCards;
+        }
+    }
 }
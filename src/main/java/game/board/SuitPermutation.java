@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.board;
+
+import game.action.SchnapsenAction;
+
+import java.util.Arrays;
+
+/**
+ * A renaming of the three suits that are not trump, the trump suit is always kept.
+ * <p>
+ * The rules treat every suit other than trump the same, so boards that only differ by such a renaming
+ * have the same value and the same actions up to the renaming. canonical picks one representative of these
+ * up to six boards, which lets transposition tables and opening databases store them once:
+ * <pre>{@code
+ * SuitPermutation permutation = SuitPermutation.canonical(board);
+ * SchnapsenBoard canonicalBoard = permutation.apply(board);
+ * SchnapsenAction best = lookUp(canonicalBoard);
+ * SchnapsenAction action = permutation.inverse().map(best, board);
+ * }</pre>
+ * The renaming holds within the round of the board, the deals of the following rounds are not renamed.
+ * Hidden cards of an information-set view are not renamed, so views are canonicalized the same way.
+ */
+public final class SuitPermutation {
+
+    private static final SuitPermutation IDENTITY = new SuitPermutation(new int[]{0, 1, 2, 3});
+
+    //The suit each suit is renamed to, indexed by the ordinal of the suit
+    private final int[] suitMap;
+
+    private SuitPermutation(int[] suitMap) {
+        this.suitMap = suitMap;
+    }
+
+    /**
+     * Returns the permutation that keeps every suit
+     * @return the identity
+     */
+    public static SuitPermutation identity() {
+        return IDENTITY;
+    }
+
+    /**
+     * Returns the permutation that renames the board to the representative of all boards that only differ by the suits
+     * that are not trump. The suits are sorted by their signature, so permuted boards are mapped to equal boards
+     * @param board the board or view, it is not changed
+     * @return the permutation to be applied to the board
+     */
+    public static SuitPermutation canonical(SchnapsenBoard board) {
+        if (board == null) {
+            throw new IllegalArgumentException("The passed board cannot be null");
+        }
+        int trumpSuit = board.trumpSuit();
+        //the suits that are not trump in ascending order, they are also the places the sorted suits are renamed to
+        int[] suits = new int[3];
+        int[] signatures = new int[3];
+        for (int suit = 0, i = 0; suit < 4; suit++) {
+            if (suit != trumpSuit) {
+                suits[i] = suit;
+                signatures[i++] = board.suitSignature(suit);
+            }
+        }
+        int[] sorted = suits.clone();
+        //insertion sort of the three suits by signature, equal signatures can be swapped without changing the board
+        for (int i = 1; i < 3; i++) {
+            for (int j = i; j > 0 && signatures[j] < signatures[j - 1]; j--) {
+                int signature = signatures[j];
+                signatures[j] = signatures[j - 1];
+                signatures[j - 1] = signature;
+                int suit = sorted[j];
+                sorted[j] = sorted[j - 1];
+                sorted[j - 1] = suit;
+            }
+        }
+        int[] suitMap = new int[4];
+        suitMap[trumpSuit] = trumpSuit;
+        for (int i = 0; i < 3; i++) {
+            suitMap[sorted[i]] = suits[i];
+        }
+        return Arrays.equals(suitMap, IDENTITY.suitMap) ? IDENTITY : new SuitPermutation(suitMap);
+    }
+
+    /**
+     * Returns the permutation that takes this permutation back
+     * @return the inverse permutation
+     */
+    public SuitPermutation inverse() {
+        if (this == IDENTITY) {
+            return IDENTITY;
+        }
+        int[] inverse = new int[4];
+        for (int suit = 0; suit < 4; suit++) {
+            inverse[suitMap[suit]] = suit;
+        }
+        return new SuitPermutation(inverse);
+    }
+
+    /**
+     * Checks if the permutation keeps every suit
+     * @return true if it is the identity
+     */
+    public boolean isIdentity() {
+        return Arrays.equals(suitMap, IDENTITY.suitMap);
+    }
+
+    /**
+     * Creates a copy of the board with renamed suits
+     * @param board the board or view, it is not changed
+     * @return a new board without undo frames
+     */
+    public SchnapsenBoard apply(SchnapsenBoard board) {
+        if (board == null) {
+            throw new IllegalArgumentException("The passed board cannot be null");
+        }
+        if (suitMap[board.trumpSuit()] != board.trumpSuit()) {
+            throw new IllegalArgumentException("The permutation has to keep the trump suit of the board");
+        }
+        return board.permuteSuits(suitMap);
+    }
+
+    /**
+     * Renames a suit
+     * @param suit the suit
+     * @return the suit it is renamed to
+     */
+    public SchnapsenBoard.CardSuit map(SchnapsenBoard.CardSuit suit) {
+        if (suit == null) {
+            throw new IllegalArgumentException("suit cannot be null");
+        }
+        return SchnapsenBoard.CardSuit.values()[suitMap[suit.ordinal()]];
+    }
+
+    /**
+     * Renames the suit of a card, PlaceHolder cards are kept
+     * @param card the card
+     * @return the shared card it is renamed to
+     */
+    public PlayingCard map(PlayingCard card) {
+        if (card == null) {
+            throw new IllegalArgumentException("card cannot be null");
+        }
+        return PlayingCard.of(SchnapsenBoard.permuteCard(SchnapsenBoard.indexOf(card), suitMap));
+    }
+
+    /**
+     * Renames the cards and the marriage suit of an action ordinal
+     * @param ordinal the ordinal of an action
+     * @return the ordinal of the renamed action
+     */
+    public int mapOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= SchnapsenAction.ACTION_COUNT) {
+            throw new IllegalArgumentException("ordinal must be between 0 and " + (SchnapsenAction.ACTION_COUNT - 1));
+        }
+        if (ordinal < SchnapsenAction.MARRIAGE) {
+            return SchnapsenBoard.permuteCard(ordinal, suitMap);
+        }
+        if (ordinal < SchnapsenAction.EXCHANGE) {
+            return SchnapsenAction.MARRIAGE + suitMap[ordinal - SchnapsenAction.MARRIAGE];
+        }
+        return ordinal;
+    }
+
+    /**
+     * Renames an action, the renamed action is taken from the precomputed universe of the board it is taken on
+     * @param action the action
+     * @param board the board the renamed action is taken on, which defines the trump suit and the player
+     * @return the renamed action
+     */
+    public SchnapsenAction map(SchnapsenAction action, SchnapsenBoard board) {
+        if (action == null) {
+            throw new IllegalArgumentException("action cannot be null");
+        }
+        if (board == null) {
+            throw new IllegalArgumentException("The passed board cannot be null");
+        }
+        return SchnapsenAction.of(board.getTrumpSuit(), board.getPlayerTurnId(), mapOrdinal(action.getOrdinal()));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof SuitPermutation && Arrays.equals(suitMap, ((SuitPermutation) obj).suitMap);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(suitMap);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int suit = 0; suit < 4; suit++) {
+            builder.append(suit == 0 ? "" : " ").append(SchnapsenBoard.CardSuit.values()[suit])
+                    .append("->").append(SchnapsenBoard.CardSuit.values()[suitMap[suit]]);
+        }
+        return builder.toString();
+    }
+}
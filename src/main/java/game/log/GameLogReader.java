@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.log;
+
+import game.action.SchnapsenAction;
+import game.board.SchnapsenBoard;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Reads a log written by GameLogWriter by mapping the file into memory.
+ * <p>
+ * A buffer can map at most 2 GiB, so the file is mapped in windows that start every GiB and reach up to 2 GiB.
+ * Every game starts in the first half of a window and is read from that window alone, which holds it as long as
+ * it is smaller than a GiB.
+ * <p>
+ * The games are visited through one reused Game object, which reads the seed and the actions straight from the mapped buffer,
+ * so scanning a log allocates nothing. Only replaying a game creates a board and applies the actions with doAction.
+ * A reader can be used by one thread at a time, several threads can read the same file with their own readers.
+ */
+public final class GameLogReader {
+
+    //Windows start every 2^WINDOW_SHIFT bytes and are twice as large, less one byte so they fit in a buffer
+    private static final int WINDOW_SHIFT = 30;
+
+    private final MappedByteBuffer[] windows;
+    private final int windowShift;
+    private final long size;
+
+    /**
+     * Maps the log file into memory, the file is closed right away as the mapping stays valid
+     * @param path the path of the log file
+     * @throws IOException if the file can not be read or is no game log
+     */
+    public GameLogReader(Path path) throws IOException {
+        this(path, WINDOW_SHIFT);
+    }
+
+    /**
+     * Maps the log file in windows of the given size, smaller windows let the tests cross window borders
+     * @param path the path of the log file
+     * @param windowShift windows start every 2^windowShift bytes
+     * @throws IOException if the file can not be read or is no game log
+     */
+    GameLogReader(Path path, int windowShift) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+        if (windowShift < 4 || windowShift > WINDOW_SHIFT) {
+            throw new IllegalArgumentException("windowShift must be between 4 and " + WINDOW_SHIFT);
+        }
+        this.windowShift = windowShift;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.size = channel.size();
+            this.windows = new MappedByteBuffer[size == 0 ? 0 : (int) ((size - 1) >>> windowShift) + 1];
+            for (int w = 0; w < windows.length; w++) {
+                long start = (long) w << windowShift;
+                windows[w] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size - start, (2L << windowShift) - 1));
+            }
+        }
+        for (int i = 0; i < GameLogWriter.MAGIC.length; i++) {
+            if (size <= i || windows[0].get(i) != GameLogWriter.MAGIC[i]) {
+                throw new IOException(path + " is not a game log");
+            }
+        }
+    }
+
+    /**
+     * Visits every game of the log in the order they were written
+     * @param visitor called with the same Game object for every game, it is only valid during the call
+     * @return the number of games
+     */
+    public long forEach(Consumer<Game> visitor) {
+        if (visitor == null) {
+            throw new IllegalArgumentException("visitor cannot be null");
+        }
+        Game game = new Game();
+        long games = 0;
+        long position = GameLogWriter.MAGIC.length;
+        while (position < size) {
+            if (size - position < GameLogWriter.RECORD_HEADER_BYTES) {
+                throw new IllegalStateException("The log ends in the middle of a game");
+            }
+            int w = (int) (position >>> windowShift);
+            game.buffer = windows[w];
+            game.position = (int) (position - ((long) w << windowShift));
+            if (game.getActionCount() < 0) {
+                throw new IllegalStateException("The log holds a game with a negative number of actions");
+            }
+            //the size is computed in long, as a corrupt number of actions could overflow the position
+            long recordSize = game.recordSize();
+            if (recordSize > size - position) {
+                throw new IllegalStateException("The log ends in the middle of a game");
+            }
+            if (recordSize > game.buffer.limit() - game.position) {
+                throw new IllegalStateException("The log holds a game that is too large to be read");
+            }
+            position += recordSize;
+            visitor.accept(game);
+            games++;
+        }
+        return games;
+    }
+
+    /**
+     * A game of the log, its fields are decoded from the mapped buffer whenever they are read
+     */
+    public static final class Game {
+        //The window holding the game and the position of the game in it
+        private MappedByteBuffer buffer;
+        private int position;
+
+        private Game() {
+        }
+
+        public long getSeed() {
+            return buffer.getLong(position);
+        }
+
+        public int getBummerlMax() {
+            return Short.toUnsignedInt(buffer.getShort(position + Long.BYTES));
+        }
+
+        public int getActionCount() {
+            return buffer.getInt(position + Long.BYTES + Short.BYTES);
+        }
+
+        /**
+         * Returns the index of an action in the order of getPossibleActions on the board it was taken on
+         * @param i the number of the action in the game
+         * @return the index of the action
+         */
+        public int getActionIndex(int i) {
+            if (i < 0 || i >= getActionCount()) {
+                throw new IllegalArgumentException("i must be between 0 and the number of actions");
+            }
+            int packed = buffer.get(position + GameLogWriter.RECORD_HEADER_BYTES + i / 2);
+            return (i % 2 == 0 ? packed : packed >>> 4) & 0xF;
+        }
+
+        /**
+         * Replays the game from its deal
+         * @return the board after the last action
+         */
+        public SchnapsenBoard replay() {
+            return replay(null);
+        }
+
+        /**
+         * Replays the game from its deal and shows every action to the visitor before it is taken
+         * @param visitor called with the board and the action that is taken next, can be null
+         * @return the board after the last action
+         */
+        public SchnapsenBoard replay(BiConsumer<SchnapsenBoard, SchnapsenAction> visitor) {
+            SchnapsenBoard board = new SchnapsenBoard(getSeed(), getBummerlMax());
+            int count = getActionCount();
+            for (int i = 0; i < count; i++) {
+                SchnapsenAction action = actionAt(board, getActionIndex(i));
+                if (visitor != null) {
+                    visitor.accept(board, action);
+                }
+                action.doAction(board);
+            }
+            return board;
+        }
+
+        private long recordSize() {
+            return GameLogWriter.RECORD_HEADER_BYTES + (getActionCount() + 1L) / 2;
+        }
+    }
+
+    /**
+     * Returns the action with the given index in the order of getPossibleActions
+     * @param board the board the action is taken on
+     * @param index the index of the action
+     * @return the action
+     */
+    static SchnapsenAction actionAt(SchnapsenBoard board, int index) {
+        Iterator<SchnapsenAction> actions = SchnapsenAction.getPossibleActions(board).iterator();
+        for (int i = 0; i < index && actions.hasNext(); i++) {
+            actions.next();
+        }
+        if (!actions.hasNext()) {
+            throw new IllegalStateException("The log holds an action that is not possible in its game");
+        }
+        return actions.next();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.log;
+
+import game.action.SchnapsenAction;
+import game.board.SchnapsenBoard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends games to a binary log file, which is read again by GameLogReader.
+ * <p>
+ * A game is stored as the seed of its deal, the Bummerl maximum and the number of actions,
+ * followed by the index of every action in the order of getPossibleActions, two indices per byte.
+ * As no position has more than nine possible actions, a game of one Bummerl takes well under a hundred bytes.
+ * A log file has no size limit, the reader maps large files in windows.
+ * The writer is not thread safe.
+ */
+public final class GameLogWriter implements Closeable {
+
+    //Every log file starts with these bytes, the last one is the version of the format
+    static final byte[] MAGIC = {'S', 'G', 'L', 1};
+
+    //Seed, Bummerl maximum and number of actions in front of the actions of a game
+    static final int RECORD_HEADER_BYTES = Long.BYTES + Short.BYTES + Integer.BYTES;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+
+    /**
+     * Opens the log file for appending, it is created if it does not exist
+     * @param path the path of the log file
+     * @throws IOException if the file can not be opened or is no game log
+     */
+    public GameLogWriter(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        long size = channel.size();
+        if (size == 0) {
+            buffer.put(MAGIC);
+        } else if (size < MAGIC.length) {
+            channel.close();
+            throw new IOException(path + " is not a game log");
+        }
+    }
+
+    /**
+     * Appends a game by replaying its actions to find their indices
+     * @param seed the seed the game was dealt with
+     * @param bummerlMax the number of Bummerl the game lasts
+     * @param actions the actions of the game in the order they were taken
+     * @throws IOException if the log can not be written
+     */
+    public void write(long seed, int bummerlMax, List<SchnapsenAction> actions) throws IOException {
+        if (actions == null) {
+            throw new IllegalArgumentException("actions cannot be null");
+        }
+        SchnapsenBoard board = new SchnapsenBoard(seed, bummerlMax);
+        byte[] indices = new byte[actions.size()];
+        for (int i = 0; i < indices.length; i++) {
+            SchnapsenAction action = actions.get(i);
+            indices[i] = (byte) indexOf(board, action);
+            action.doAction(board);
+        }
+        write(seed, bummerlMax, indices, indices.length);
+    }
+
+    /**
+     * Appends a game whose action indices are already known
+     * @param seed the seed the game was dealt with
+     * @param bummerlMax the number of Bummerl the game lasts
+     * @param actionIndices the index of every action in the order of getPossibleActions
+     * @param count the number of actions
+     * @throws IOException if the log can not be written
+     */
+    public void write(long seed, int bummerlMax, byte[] actionIndices, int count) throws IOException {
+        if (actionIndices == null || count < 0 || count > actionIndices.length) {
+            throw new IllegalArgumentException("count must be between 0 and the length of actionIndices");
+        }
+        if (bummerlMax < 1 || bummerlMax > 0xFFFF) {
+            throw new IllegalArgumentException("bummerlMax must be between 1 and 65535");
+        }
+        //the indices are checked before anything is buffered, a partly written record would corrupt every later game of the log
+        for (int i = 0; i < count; i++) {
+            if (actionIndices[i] >>> 4 != 0) {
+                throw new IllegalArgumentException("action indices must be between 0 and 15");
+            }
+        }
+        int recordSize = RECORD_HEADER_BYTES + (count + 1) / 2;
+        if (buffer.remaining() < recordSize) {
+            flush();
+        }
+        ByteBuffer target = buffer.remaining() < recordSize ? ByteBuffer.allocate(recordSize) : buffer;
+
+        target.putLong(seed).putShort((short) bummerlMax).putInt(count);
+        for (int i = 0; i < count; i += 2) {
+            int low = actionIndices[i];
+            int high = i + 1 < count ? actionIndices[i + 1] : 0;
+            target.put((byte) (low | high << 4));
+        }
+        if (target != buffer) {
+            writeFully(target);
+        }
+    }
+
+    /**
+     * Returns the index of the action in the order of getPossibleActions
+     * @param board the board the action is taken on
+     * @param action the action
+     * @return the index of the action
+     */
+    public static int indexOf(SchnapsenBoard board, SchnapsenAction action) {
+        int index = 0;
+        for (SchnapsenAction possible : SchnapsenAction.getPossibleActions(board)) {
+            if (possible.equals(action)) {
+                return index;
+            }
+            index++;
+        }
+        throw new IllegalArgumentException("The action " + action + " is not possible on the board");
+    }
+
+    /**
+     * Writes the buffered games to the file
+     * @throws IOException if the log can not be written
+     */
+    public void flush() throws IOException {
+        writeFully(buffer);
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        source.flip();
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+        source.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
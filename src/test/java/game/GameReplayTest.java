@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game;
+
+import game.action.SchnapsenAction;
+import game.board.SchnapsenBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameReplayTest {
+
+  @Test
+  void givenRecordedGame_everyPlyMatchesTheGamePlayedWithDoAction() {
+    SchnapsenBoard initial = new SchnapsenBoard(9L, 3);
+    Schnapsen game = new Schnapsen(new SchnapsenBoard(initial));
+    List<SchnapsenBoard> boards = new ArrayList<>();
+    boards.add(game.getBoard());
+    Random random = new Random(9);
+    while (!game.isGameOver()) {
+      List<SchnapsenAction> actions = new ArrayList<>(game.getPossibleActions());
+      game = (Schnapsen) game.doAction(actions.get(random.nextInt(actions.size())));
+      boards.add(game.getBoard());
+    }
+
+    GameReplay replay = new GameReplay(initial, game, 8);
+    assertEquals(boards.size() - 1, replay.size());
+    assertTrue(replay.getCheckpointCount() > replay.size() / 8);
+
+    //seeking backwards and jumping around has to give the same boards as stepping forward
+    for (int ply = replay.size(); ply >= 0; ply--) {
+      assertEquals(boards.get(ply), replay.boardAt(ply));
+    }
+    for (int i = 0; i < 200; i++) {
+      int ply = random.nextInt(replay.size() + 1);
+      assertEquals(boards.get(ply).toString(), replay.boardAt(ply).toString());
+    }
+    assertThrows(IllegalArgumentException.class, () -> replay.boardAt(replay.size() + 1));
+  }
+}
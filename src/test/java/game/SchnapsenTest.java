@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game;
+
+import at.ac.tuwien.ifs.sge.game.ActionRecord;
+import at.ac.tuwien.ifs.sge.game.Game;
+import game.action.SchnapsenAction;
+import game.board.PlayingCard;
+import game.board.SchnapsenBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchnapsenTest {
+
+  @Test
+  void givenPlayedGame_actionRecordsKeepEveryPly() {
+    Game<SchnapsenAction, SchnapsenBoard> game = new Schnapsen(new SchnapsenBoard(new Random(3)));
+    List<Game<SchnapsenAction, SchnapsenBoard>> games = new ArrayList<>();
+    List<SchnapsenAction> actions = new ArrayList<>();
+
+    while (!game.isGameOver()) {
+      games.add(game);
+      SchnapsenAction action = game.determineNextAction();
+      actions.add(action);
+      game = game.doAction(action);
+    }
+
+    List<ActionRecord<SchnapsenAction>> records = game.getActionRecords();
+    assertEquals(actions.size(), records.size());
+    int i = 0;
+    for (ActionRecord<SchnapsenAction> record : records) {
+      assertEquals(actions.get(i), record.getAction());
+      assertEquals(actions.get(i), records.get(i).getAction());
+      i++;
+    }
+
+    //earlier games are not changed by later actions
+    for (int ply = 0; ply < games.size(); ply++) {
+      assertEquals(ply, games.get(ply).getActionRecords().size());
+    }
+    assertThrows(UnsupportedOperationException.class, () -> records.add(records.get(0)));
+  }
+
+  @Test
+  void givenEmptyPile_viewHoldsTheOpponentsHand() {
+    for (long seed = 0; seed < 20; seed++) {
+      Schnapsen game = new Schnapsen(new SchnapsenBoard(seed, 1));
+      Random random = new Random(seed);
+      while (!game.isGameOver()) {
+        SchnapsenBoard board = game.getBoard();
+        SchnapsenBoard view = game.getGame(board.getPlayerTurnId()).getBoard();
+        if (board.playingCardPileIsEmpty()) {
+          assertEquals(board, view);
+        } else {
+          assertNotEquals(board, view);
+          assertFalse(view.revealKnownCards());
+        }
+
+        List<SchnapsenAction> actions = new ArrayList<>(game.getPossibleActions());
+        game = (Schnapsen) game.doAction(actions.get(random.nextInt(actions.size())));
+      }
+    }
+  }
+
+  @Test
+  void givenPlayerIndex_viewHidesTheCardsOfTheOtherPlayer() {
+    Schnapsen game = new Schnapsen(new SchnapsenBoard(8L, 1));
+    for (int playerId = 0; playerId < 2; playerId++) {
+      SchnapsenBoard expected = new SchnapsenBoard(game.getBoard());
+      expected.hideInformation(playerId);
+      SchnapsenBoard other = new SchnapsenBoard(game.getBoard());
+      other.hideInformation(1 - playerId);
+
+      SchnapsenBoard view = game.getGame(playerId).getBoard();
+      assertEquals(expected, view);
+      assertNotEquals(other, view);
+      assertNotSame(game.getBoard(), view);
+    }
+    assertThrows(IllegalArgumentException.class, () -> game.getGame(2));
+  }
+
+  @Test
+  void givenPendingMarriage_viewOfTheWaitingPlayerShowsTheMarriage() {
+    int marriages = 0;
+    for (long seed = 0; seed < 200; seed++) {
+      Schnapsen game = new Schnapsen(new SchnapsenBoard(seed, 1));
+      Random random = new Random(seed);
+      while (!game.isGameOver()) {
+        for (int playerId = 0; playerId < 2; playerId++) {
+          Schnapsen view = (Schnapsen) game.getGame(playerId);
+          assertFalse(view.getPossibleActions().isEmpty());
+          assertNotNull(view.determineNextAction());
+        }
+
+        List<SchnapsenAction> actions = new ArrayList<>(game.getPossibleActions());
+        SchnapsenAction action = actions.get(random.nextInt(actions.size()));
+        game = (Schnapsen) game.doAction(action);
+
+        int ordinal = action.getOrdinal();
+        if (ordinal >= SchnapsenAction.MARRIAGE && ordinal < SchnapsenAction.EXCHANGE && !game.isGameOver()
+            && game.getBoard().getMarriageCardDeclared() != null) {
+          int suit = ordinal - SchnapsenAction.MARRIAGE;
+          int turn = game.getCurrentPlayer();
+          Schnapsen view = (Schnapsen) game.getGame(1 - turn);
+          List<PlayingCard> hand = turn == 0 ? view.getBoard().getPlayer0Cards() : view.getBoard().getPlayer1Cards();
+
+          assertTrue(hand.contains(PlayingCard.of(SchnapsenBoard.CardName.values()[suit * 5 + 1])));
+          assertTrue(hand.contains(PlayingCard.of(SchnapsenBoard.CardName.values()[suit * 5 + 2])));
+          assertEquals(game.getPossibleActions(), view.getPossibleActions());
+          assertTrue(view.isValidAction(view.determineNextAction()));
+          marriages++;
+        }
+      }
+    }
+    assertTrue(marriages > 0);
+  }
+}
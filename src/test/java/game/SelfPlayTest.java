@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelfPlayTest {
+
+  @Test
+  void givenSameSeed_randomGamesAreReplayed() {
+    for (long seed = 0; seed < 20; seed++) {
+      SelfPlay.GameResult result = SelfPlay.play(seed, 2, "random", "first", 0);
+
+      assertEquals(result.toCsv(), SelfPlay.play(seed, 2, "random", "first", 0).toCsv());
+      assertTrue(Math.max(result.player0BummerlAmount, result.player1BummerlAmount) >= 2);
+      assertEquals(result.player0BummerlAmount < result.player1BummerlAmount ? 0 : 1, result.winner);
+      //a round has at most 10 tricks and a Bummerl of 7 points takes at least 3 rounds
+      assertTrue(result.tricks <= 10 * result.rounds);
+      assertTrue(result.rounds >= 3);
+    }
+  }
+
+  @Test
+  void givenSeedRange_parallelGamesAreIdenticalToSerialGames() {
+    List<String> serial = LongStream.range(0, 40)
+        .mapToObj(seed -> SelfPlay.play(seed, 2, "random", "random", 0).toCsv())
+        .collect(Collectors.toList());
+    List<String> parallel = LongStream.range(0, 40).parallel()
+        .mapToObj(seed -> SelfPlay.play(seed, 2, "random", "random", 0).toCsv())
+        .collect(Collectors.toList());
+
+    assertEquals(serial, parallel);
+  }
+
+  @Test
+  void givenUnknownPolicy_throwsException() {
+    assertThrows(IllegalArgumentException.class, () -> SelfPlay.createPolicy("minimax", 0, 0, 10));
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.action;
+
+import game.board.PlayingCard;
+import game.board.SchnapsenBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchnapsenActionTest {
+
+  @Test
+  void givenPlayedGame_possibleActionsIterateInCompareToOrder() {
+    SchnapsenBoard board = new SchnapsenBoard(new Random(3), 3);
+    Random random = new Random(3);
+
+    while (!board.isGameOver()) {
+      Set<SchnapsenAction> actions = SchnapsenAction.getPossibleActions(board);
+      List<SchnapsenAction> ordered = new ArrayList<>(actions);
+
+      assertEquals(new ArrayList<>(new TreeSet<>(actions)), ordered);
+      assertEquals(ordered.size(), actions.size());
+      board.apply(ordered.get(random.nextInt(ordered.size())));
+    }
+    assertTrue(SchnapsenAction.getPossibleActions(board).isEmpty());
+  }
+
+  @Test
+  void givenEqualAction_possibleActionsContainIt() {
+    SchnapsenBoard board = new SchnapsenBoard(new Random(0));
+    Set<SchnapsenAction> actions = SchnapsenAction.getPossibleActions(board);
+    PlayingCard card = board.getPlayer0Cards().get(0);
+
+    assertTrue(actions.contains(new SchnapsenAction(0, card, "Play " + card)));
+    assertFalse(actions.contains(new SchnapsenAction(1, card, "Play " + card)));
+    assertTrue(actions.contains(new SchnapsenAction(0, false, "Close the talon")));
+    assertThrows(UnsupportedOperationException.class, () -> actions.add(new SchnapsenAction(0, false, "Close the talon")));
+  }
+
+  @Test
+  void givenOrdinal_sharedActionIsReturned() {
+    for (int ordinal = 0; ordinal < SchnapsenAction.ACTION_COUNT; ordinal++) {
+      SchnapsenAction action = SchnapsenAction.of(SchnapsenBoard.CardSuit.HEARTS, 1, ordinal);
+
+      assertEquals(ordinal, action.getOrdinal());
+      assertSame(action, SchnapsenAction.of(SchnapsenBoard.CardSuit.HEARTS, 1, ordinal));
+    }
+    assertThrows(IllegalArgumentException.class, () -> SchnapsenAction.of(SchnapsenBoard.CardSuit.HEARTS, 1, SchnapsenAction.ACTION_COUNT));
+  }
+
+  @Test
+  void givenUnchangedBoard_possibleActionsAreComputedOnce() {
+    SchnapsenBoard board = new SchnapsenBoard(5L, 2);
+    Random random = new Random(5);
+    List<Set<SchnapsenAction>> history = new ArrayList<>();
+
+    while (!board.isGameOver()) {
+      Set<SchnapsenAction> actions = SchnapsenAction.getPossibleActions(board);
+      assertSame(actions, SchnapsenAction.getPossibleActions(board));
+      assertEquals(SchnapsenAction.computePossibleActions(board), actions);
+      history.add(actions);
+
+      List<SchnapsenAction> ordered = new ArrayList<>(actions);
+      board.apply(ordered.get(random.nextInt(ordered.size())));
+    }
+    assertTrue(SchnapsenAction.getPossibleActions(board).isEmpty());
+
+    //undo restores the actions of the earlier states
+    for (int ply = history.size() - 1; ply >= 0; ply--) {
+      board.undo();
+      assertEquals(history.get(ply), SchnapsenAction.getPossibleActions(board));
+      assertEquals(SchnapsenAction.computePossibleActions(board), SchnapsenAction.getPossibleActions(board));
+    }
+
+    SchnapsenBoard view = new SchnapsenBoard(board);
+    SchnapsenAction.getPossibleActions(view);
+    view.hideInformation(1 - view.getPlayerTurnId());
+    assertEquals(SchnapsenAction.computePossibleActions(view), SchnapsenAction.getPossibleActions(view));
+  }
+
+  @Test
+  void givenPlayedGames_singleActionChecksMatchThePossibleActions() {
+    for (long seed = 0; seed < 30; seed++) {
+      SchnapsenBoard board = new SchnapsenBoard(seed, 1);
+      Random random = new Random(seed);
+      while (!board.isGameOver()) {
+        SchnapsenBoard view = new SchnapsenBoard(board);
+        view.hideInformation(view.getPlayerTurnId());
+        for (SchnapsenBoard checked : List.of(board, view)) {
+          Set<SchnapsenAction> actions = SchnapsenAction.computePossibleActions(checked);
+          assertSame(actions.iterator().next(), SchnapsenAction.firstPossibleAction(checked));
+          for (int playerId = 0; playerId < 2; playerId++) {
+            for (int ordinal = 0; ordinal < SchnapsenAction.ACTION_COUNT; ordinal++) {
+              SchnapsenAction action = SchnapsenAction.of(checked.getTrumpSuit(), playerId, ordinal);
+              assertEquals(actions.contains(action), SchnapsenAction.isPossibleAction(checked, action));
+            }
+          }
+        }
+
+        List<SchnapsenAction> ordered = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+        board.apply(ordered.get(random.nextInt(ordered.size())));
+      }
+      assertNull(SchnapsenAction.firstPossibleAction(board));
+      assertFalse(SchnapsenAction.isPossibleAction(board, null));
+    }
+  }
+
+  @Test
+  void givenMarriageWithQueenFirst_itMatchesTheMarriageOfThePossibleActions() {
+    int checked = 0;
+    for (long seed = 0; seed < 30; seed++) {
+      SchnapsenBoard board = new SchnapsenBoard(seed, 1);
+      Random random = new Random(seed);
+      while (!board.isGameOver()) {
+        int marriages = board.getDeclarableMarriages();
+        if (marriages != 0) {
+          int suit = Integer.numberOfTrailingZeros(marriages);
+          PlayingCard queen = PlayingCard.of(SchnapsenBoard.CardName.values()[suit * 5 + 1]);
+          PlayingCard king = PlayingCard.of(SchnapsenBoard.CardName.values()[suit * 5 + 2]);
+          SchnapsenAction reversed = new SchnapsenAction(board.getPlayerTurnId(), queen, king, "Marriage of " + queen + " + " + king);
+          SchnapsenAction interned = SchnapsenAction.of(board.getTrumpSuit(), board.getPlayerTurnId(), SchnapsenAction.MARRIAGE + suit);
+
+          assertEquals(interned, reversed);
+          assertEquals(interned.hashCode(), reversed.hashCode());
+          assertTrue(SchnapsenAction.getPossibleActions(board).contains(reversed));
+          assertTrue(SchnapsenAction.isPossibleAction(board, reversed));
+          checked++;
+        }
+
+        List<SchnapsenAction> ordered = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+        board.apply(ordered.get(random.nextInt(ordered.size())));
+      }
+    }
+    assertTrue(checked > 0);
+  }
+}
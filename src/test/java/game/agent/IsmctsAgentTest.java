@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.agent;
+
+import game.Schnapsen;
+import game.action.SchnapsenAction;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsmctsAgentTest {
+
+  @Test
+  void givenPlayedGame_agentReturnsPossibleActionsWithinTime() {
+    IsmctsAgent agent = new IsmctsAgent(null, 2);
+    agent.setUp(2, 0);
+    Schnapsen game = new Schnapsen("1;4", 2);
+
+    try {
+      while (!game.isGameOver()) {
+        Schnapsen view = (Schnapsen) game.getGame(game.getCurrentPlayer());
+        long start = System.nanoTime();
+        SchnapsenAction action = agent.computeNextAction(view, 50, TimeUnit.MILLISECONDS);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(game.getPossibleActions().contains(action));
+        assertTrue(elapsed < 250, "took " + elapsed + " ms");
+        if (agent.getLastPlayoutCount() > 0) {
+          assertTrue(agent.getPlayoutsPerSecondPerThread() > 0);
+        }
+        game = (Schnapsen) game.doAction(action);
+      }
+    } finally {
+      agent.tearDown();
+    }
+  }
+
+  @Test
+  void givenAgentWithoutSetUp_computeNextActionFails() {
+    IsmctsAgent agent = new IsmctsAgent(null, 1);
+    Schnapsen game = new Schnapsen("1;4", 2);
+
+    assertThrows(IllegalStateException.class, () -> agent.computeNextAction(game, 10, TimeUnit.MILLISECONDS));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.board;
+
+import game.action.SchnapsenAction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeterminizationSamplerTest {
+
+  @Test
+  void givenViewsDuringGames_samplesAreConsistentWithTheView() {
+    Random random = new Random(11);
+
+    for (int seed = 0; seed < 30; seed++) {
+      SchnapsenBoard board = new SchnapsenBoard(new Random(seed), 2);
+      while (!board.isGameOver()) {
+        int playerId = board.getPlayerTurnId();
+        SchnapsenBoard view = new SchnapsenBoard(board);
+        view.hideInformation(playerId);
+        DeterminizationSampler sampler = new DeterminizationSampler(view, playerId);
+
+        int sampledCards = 0;
+        for (int i = 0; i < 200; i++) {
+          SchnapsenBoard sample = sampler.sample(random);
+          assertEquals(0, sample.hiddenCards(0) + sample.hiddenCards(1));
+          assertEquals(0, voidCards(sample, 1 - playerId) & sample.hand(1 - playerId));
+          sampledCards |= sample.hand(1 - playerId);
+
+          //hiding the sample again has to give back the view
+          sample.hideInformation(playerId);
+          assertEquals(view, sample);
+        }
+        //the real cards of the opponent are a possible sample
+        assertEquals(board.hand(1 - playerId), board.hand(1 - playerId) & sampledCards);
+
+        List<SchnapsenAction> actions = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+        board.apply(actions.get(random.nextInt(actions.size())));
+      }
+    }
+  }
+
+  @Test
+  void givenHiddenPlayerCards_samplerRejectsView() {
+    SchnapsenBoard view = new SchnapsenBoard(new Random(0));
+    view.hideInformation(1);
+
+    assertThrows(IllegalArgumentException.class, () -> new DeterminizationSampler(view, 0));
+    assertThrows(IllegalArgumentException.class, () -> new DeterminizationSampler(view, 2));
+  }
+
+  /**
+   * Collects the suits the player failed to follow after the talon was closed or the pile was empty
+   */
+  private int voidCards(SchnapsenBoard board, int playerId) {
+    int cards = 0;
+    for (int i = (10 - board.playingCardsLeftInPile()) / 2; i < board.trickCount(); i++) {
+      int trick = board.trick(i);
+      int follow = trick & 0b11111;
+      int lead = trick >>> 5 & 0b11111;
+      int suit = SchnapsenBoard.suitOf(lead);
+      boolean followWins = SchnapsenBoard.suitOf(follow) == suit
+              ? SchnapsenBoard.valueOf(follow) > SchnapsenBoard.valueOf(lead)
+              : SchnapsenBoard.suitOf(follow) == board.trumpSuit();
+      int follower = followWins ? trick >>> 10 : 1 - (trick >>> 10);
+      if (follower == playerId && SchnapsenBoard.suitOf(follow) != suit) {
+        cards |= SchnapsenBoard.suitMask(suit);
+      }
+    }
+    return cards;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.board;
+
+import game.action.SchnapsenAction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndgameSolverTest {
+
+  @Test
+  void givenEndgames_solverAgreesWithFullSearchOnTheBoard() {
+    EndgameSolver solver = new EndgameSolver();
+
+    for (int seed = 0; seed < 40; seed++) {
+      SchnapsenBoard board = createEndgame(seed);
+      String before = board.toString();
+
+      int value = solver.solve(board);
+      assertEquals(minimax(board), value);
+      assertEquals(before, board.toString());
+
+      //the best action has to reach the solved value
+      board.apply(solver.bestAction(board));
+      assertEquals(value, minimax(board));
+    }
+  }
+
+  @Test
+  void givenOpenTalon_solverRejectsBoard() {
+    SchnapsenBoard board = new SchnapsenBoard(new Random(0));
+
+    assertFalse(EndgameSolver.canSolve(board));
+    assertThrows(IllegalArgumentException.class, () -> new EndgameSolver().solve(board));
+  }
+
+  /**
+   * Plays random actions of the first round until the talon is closed or the pile is empty
+   */
+  private SchnapsenBoard createEndgame(int seed) {
+    Random random = new Random(seed);
+    SchnapsenBoard board = new SchnapsenBoard(new Random(seed), 3);
+    while (!EndgameSolver.canSolve(board)) {
+      List<SchnapsenAction> actions = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+      SchnapsenAction close = new SchnapsenAction(board.getPlayerTurnId(), false, "Close the talon");
+      if (actions.contains(close) && random.nextInt(3) == 0) {
+        board.apply(close);
+      } else {
+        actions.remove(close);
+        board.apply(actions.get(random.nextInt(actions.size())));
+      }
+      if (board.getPlayer0Bummerl() != 7 || board.getPlayer1Bummerl() != 7) {
+        return createEndgame(seed + 1000);
+      }
+    }
+    return board;
+  }
+
+  /**
+   * Exhaustive search with apply and undo, the round is over as soon as a Bummerl counter changed
+   */
+  private int minimax(SchnapsenBoard board) {
+    if (board.getPlayer0Bummerl() != 7 || board.getPlayer1Bummerl() != 7) {
+      return board.getPlayer1Bummerl() - board.getPlayer0Bummerl();
+    }
+    boolean maximise = board.getPlayerTurnId() == 0;
+    int best = maximise ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+    for (SchnapsenAction action : SchnapsenAction.getPossibleActions(board)) {
+      board.apply(action);
+      int value = minimax(board);
+      board.undo();
+      best = maximise ? Math.max(best, value) : Math.min(best, value);
+    }
+    return best;
+  }
+}
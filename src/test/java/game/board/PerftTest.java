@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+
+  @Test
+  void givenSeededDeal_countsMatchReferenceValues() {
+    SchnapsenBoard board = new SchnapsenBoard(0L, 1);
+    String before = board.toString();
+
+    Perft.Result result = Perft.count(board, 6);
+    long[][] expected = {
+        {5, 0, 1, 1},
+        {35, 0, 0, 1},
+        {161, 0, 14, 25},
+        {975, 0, 0, 39},
+        {4488, 41, 213, 625},
+        {25663, 114, 0, 1188},
+    };
+    assertEquals(1, result.getNodes(0));
+    for (int depth = 1; depth <= 6; depth++) {
+      for (int type = 0; type < Perft.TYPE_COUNT; type++) {
+        assertEquals(expected[depth - 1][type], result.getCount(depth, type), "depth " + depth + " type " + type);
+      }
+    }
+    assertEquals(33590, result.getTotalNodes());
+    assertEquals(before, board.toString());
+  }
+
+  @Test
+  void givenSeededDeals_parallelCountsEqualSequentialCounts() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      for (int seed = 0; seed < 5; seed++) {
+        SchnapsenBoard board = new SchnapsenBoard(seed, 1);
+        Perft.Result sequential = Perft.count(board, 6);
+        Perft.Result parallel = Perft.countParallel(board, 6, pool);
+        for (int depth = 0; depth <= 6; depth++) {
+          for (int type = 0; type < Perft.TYPE_COUNT; type++) {
+            assertEquals(sequential.getCount(depth, type), parallel.getCount(depth, type));
+          }
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void givenHiddenInformation_perftRejectsBoard() {
+    SchnapsenBoard board = new SchnapsenBoard(new Random(0));
+    board.hideInformation(0);
+    assertThrows(IllegalArgumentException.class, () -> Perft.count(board, 1));
+  }
+}
@@ -11,7 +11,9 @@ import game.action.SchnapsenAction;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
@@ -133,7 +135,7 @@ class SchnapsenBoardTest {
         board.closeTalon(0);
         board.playCard(0, lead);
 
-        PlayingCard follow = board.getPlayer1Cards().get(4); //follow with legal Card
+        PlayingCard follow = board.getPlayer1Cards().get(0); //follow with legal Card
         board.playCard(1, follow);
 
         //check who won
@@ -150,10 +152,10 @@ class SchnapsenBoardTest {
     @Test
     void givenInitializedBoardWithSeed_declaringMarriage_resultsInMarriageCardBeingDeclared()
     {
-        SchnapsenBoard board = new SchnapsenBoard(new Random(1));
+        SchnapsenBoard board = new SchnapsenBoard(new Random(0));
 
         PlayingCard marriageCard1 = board.getPlayer0Cards().get(1);
-        PlayingCard marriageCard2 = board.getPlayer0Cards().get(4);
+        PlayingCard marriageCard2 = board.getPlayer0Cards().get(2);
 
         board.declareMarriage(board.getPlayerTurnId(), marriageCard1, marriageCard2);
         assertEquals(board.getMarriageCardDeclared(),marriageCard1);
@@ -162,10 +164,10 @@ class SchnapsenBoardTest {
     @Test
     void givenInitializedBoardWithSeed_exchangeingTrumpCard_resultsInTrumpCardBeingExchanged()
     {
-        SchnapsenBoard board = new SchnapsenBoard(new Random(0));
+        SchnapsenBoard board = new SchnapsenBoard(new Random(112));
 
         PlayingCard trumpCard = board.getTrumpCard();
-        PlayingCard playerCard = board.getPlayer0Cards().get(1);
+        PlayingCard playerCard = board.getPlayer0Cards().get(4);
         board.exchangeTrumpCard(0);
         assertEquals(board.getTrumpCard(),playerCard);
         assertEquals(board.getPlayer0Cards().get(4),trumpCard);
@@ -219,6 +221,343 @@ class SchnapsenBoardTest {
     assertNull(copy.getLeadingCard());
   }
 
+  @Test
+  void givenPlayedTrick_trickIsStoredAsPairForWinner() {
+    SchnapsenBoard board = new SchnapsenBoard(new Random(0));
+
+    PlayingCard lead = board.getPlayer0Cards().get(0);
+    board.playCard(0, lead);
+    PlayingCard follow = board.getPlayer1Cards().get(0);
+    board.playCard(1, follow);
+
+    List<PlayingCard[]> winnerTricks = board.getPlayerTurnId() == 0 ? board.getPlayer0Tricks() : board.getPlayer1Tricks();
+    List<PlayingCard[]> loserTricks = board.getPlayerTurnId() == 0 ? board.getPlayer1Tricks() : board.getPlayer0Tricks();
+    assertEquals(1, winnerTricks.size());
+    assertEquals(0, loserTricks.size());
+    assertEquals(follow, winnerTricks.get(0)[0]);
+    assertEquals(lead, winnerTricks.get(0)[1]);
+    assertEquals(8, board.playingCardsLeftInPile());
+  }
+
+  @Test
+  void givenHiddenInformation_opponentCardsAreReplacedByPlaceHolders() {
+    SchnapsenBoard board = new SchnapsenBoard(new Random(0));
+    board.hideInformation(0);
+    board.playCard(0, board.getPlayer0Cards().get(0));
+
+    List<PlayingCard> opponentCards = board.getPlayer1Cards();
+    assertEquals(5, opponentCards.size());
+    for (PlayingCard card : opponentCards) {
+      assertEquals(SchnapsenBoard.CardName.PlaceHolder, card.getCardName());
+    }
+    assertEquals(10, board.playingCardsLeftInPile());
+    assertNotNull(board.getTrumpCard());
+  }
+
+  @Test
+  void givenAppliedActions_undoRestoresEveryPreviousState() {
+    SchnapsenBoard board = new SchnapsenBoard(new Random(7), 2);
+    Random random = new Random(7);
+    List<String> states = new ArrayList<>();
+
+    while (!board.isGameOver()) {
+      states.add(board + " " + board.getUtilityValue(0));
+      List<SchnapsenAction> actions = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+      board.apply(actions.get(random.nextInt(actions.size())));
+    }
+
+    for (int i = states.size() - 1; i >= 0; i--) {
+      board.undo();
+      assertEquals(states.get(i), board + " " + board.getUtilityValue(0));
+    }
+    assertThrows(IllegalStateException.class, board::undo);
+  }
+
+  @Test
+  void givenIllegalAction_applyLeavesBoardUnchanged() {
+    SchnapsenBoard board = new SchnapsenBoard(new Random(0));
+    String before = board.toString();
+    PlayingCard card = board.getPlayer0Cards().get(0);
+
+    assertThrows(IllegalStateException.class, () -> board.apply(new SchnapsenAction(1, card, "Play " + card)));
+    assertEquals(before, board.toString());
+    assertThrows(IllegalStateException.class, board::undo);
+  }
+
+  @Test
+  void givenCopiedBoard_boardsAreEqualUntilOneChanges() {
+    SchnapsenBoard board = new SchnapsenBoard(new Random(5));
+    SchnapsenBoard copy = new SchnapsenBoard(board);
+    long key = board.getZobristKey();
+
+    assertEquals(board, copy);
+    assertEquals(board.hashCode(), copy.hashCode());
+    assertEquals(1, new HashSet<>(List.of(board, copy)).size());
+
+    copy.apply(SchnapsenAction.getPossibleActions(copy).iterator().next());
+    assertNotEquals(board, copy);
+    assertNotEquals(key, copy.getZobristKey());
+
+    copy.undo();
+    assertEquals(board, copy);
+    assertEquals(key, copy.getZobristKey());
+  }
+
+  @Test
+  void givenSameTricksInDifferentOrder_boardsAreEqual() {
+    PlayingCard[] first = {PlayingCard.of(SchnapsenBoard.CardName.TenOfHearts), PlayingCard.of(SchnapsenBoard.CardName.AceOfHearts)};
+    PlayingCard[] second = {PlayingCard.of(SchnapsenBoard.CardName.JackOfClubs), PlayingCard.of(SchnapsenBoard.CardName.KingOfClubs)};
+    SchnapsenBoard board = createBoardWithTricks(List.of(first, second));
+    SchnapsenBoard transposed = createBoardWithTricks(List.of(second, first));
+
+    assertEquals(board, transposed);
+    assertEquals(board.getZobristKey(), transposed.getZobristKey());
+  }
+
+  @Test
+  void givenCopiedBoard_copiesDealTheSameRoundsWithoutChangingTheOriginal() {
+    SchnapsenBoard board = new SchnapsenBoard(5L, 3);
+    SchnapsenBoard untouched = new SchnapsenBoard(5L, 3);
+    for (int i = 0; i < 10; i++) {
+      new SchnapsenBoard(board);
+    }
+    SchnapsenBoard copy = new SchnapsenBoard(board);
+
+    //play both boards over several rounds, every round is dealt the same on both and on the board that was never copied
+    while (!board.isGameOver()) {
+      SchnapsenAction action = SchnapsenAction.getPossibleActions(board).iterator().next();
+      board.apply(action);
+      copy.apply(action);
+      untouched.apply(action);
+      assertEquals(board.toString(), copy.toString());
+      assertEquals(board.toString(), untouched.toString());
+    }
+    assertTrue(board.getRoundIndex() > 1);
+  }
+
+  @Test
+  void givenUndoneNewRound_applyingAgainDealsTheSameRound() {
+    SchnapsenBoard board = new SchnapsenBoard(11L, 2);
+    int roundIndex = board.getRoundIndex();
+    while (board.getRoundIndex() == roundIndex) {
+      board.apply(SchnapsenAction.getPossibleActions(board).iterator().next());
+    }
+    String dealt = board.toString();
+
+    board.undo();
+    board.apply(SchnapsenAction.getPossibleActions(board).iterator().next());
+    assertEquals(dealt, board.toString());
+    assertEquals(roundIndex + 1, board.getRoundIndex());
+  }
+
+  @Test
+  void givenPlayedBoards_decodingTheEncodingRestoresTheBoard() {
+    for (long seed = 0; seed < 50; seed++) {
+      SchnapsenBoard board = new SchnapsenBoard(seed, 2);
+      Random random = new Random(seed);
+      while (!board.isGameOver()) {
+        long[] encoding = board.encode();
+        assertEquals(SchnapsenBoard.ENCODED_LONGS, encoding.length);
+
+        SchnapsenBoard decoded = SchnapsenBoard.decode(encoding);
+        assertEquals(board, decoded);
+        assertEquals(board.getZobristKey(), decoded.getZobristKey());
+        assertArrayEquals(encoding, decoded.encode());
+        assertEquals(SchnapsenAction.getPossibleActions(board), SchnapsenAction.getPossibleActions(decoded));
+
+        List<SchnapsenAction> actions = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+        board.apply(actions.get(random.nextInt(actions.size())));
+      }
+    }
+  }
+
+  @Test
+  void givenHiddenInformation_encodeThrowsException() {
+    SchnapsenBoard board = new SchnapsenBoard(3L, 1);
+    board.hideInformation(0);
+    assertThrows(IllegalArgumentException.class, board::encode);
+    assertThrows(IllegalArgumentException.class, () -> SchnapsenBoard.decode(new long[2]));
+  }
+
+  @Test
+  void givenPlayedBoards_parsingTheNotationRestoresTheBoard() {
+    for (long seed = 0; seed < 50; seed++) {
+      SchnapsenBoard board = new SchnapsenBoard(seed, 2);
+      Random random = new Random(seed);
+      while (!board.isGameOver()) {
+        String notation = board.toNotation();
+        SchnapsenBoard parsed = SchnapsenBoard.fromNotation(notation);
+        assertEquals(board, parsed);
+        assertEquals(board.toString(), parsed.toString());
+        assertEquals(board.getZobristKey(), parsed.getZobristKey());
+        assertEquals(board.getGameSeed(), parsed.getGameSeed());
+        assertEquals(board.getRoundIndex(), parsed.getRoundIndex());
+        assertEquals(notation, parsed.toNotation());
+        assertEquals(SchnapsenAction.getPossibleActions(board), SchnapsenAction.getPossibleActions(parsed));
+
+        List<SchnapsenAction> actions = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+        board.apply(actions.get(random.nextInt(actions.size())));
+      }
+    }
+  }
+
+  @Test
+  void givenInvalidNotation_fromNotationThrowsException() {
+    String notation = new SchnapsenBoard(4L, 1).toNotation();
+    assertThrows(IllegalArgumentException.class, () -> SchnapsenBoard.fromNotation(notation.substring(1)));
+    assertThrows(IllegalArgumentException.class, () -> SchnapsenBoard.fromNotation(notation + " 1"));
+    assertThrows(IllegalArgumentException.class, () -> SchnapsenBoard.fromNotation(notation.replace(" - ", " x ")));
+    assertThrows(IllegalArgumentException.class, () -> SchnapsenBoard.fromNotation("- - - - JS - - -/- 0/0/0/0 - 0/0 7/7/0/0/1 0/0"));
+
+    SchnapsenBoard hidden = new SchnapsenBoard(4L, 1);
+    hidden.hideInformation(0);
+    assertThrows(IllegalArgumentException.class, hidden::toNotation);
+  }
+
+  @Test
+  void givenNotation_schnapsenStartsFromTheBoard() {
+    SchnapsenBoard board = new SchnapsenBoard(9L, 3);
+    board.apply(SchnapsenAction.getPossibleActions(board).iterator().next());
+    Schnapsen schnapsen = new Schnapsen(board.toNotation(), 2);
+    assertEquals(board, schnapsen.getBoard());
+    assertEquals(3, schnapsen.getBoard().getBummerlMax());
+    assertThrows(IllegalArgumentException.class, () -> new Schnapsen("AS - -", 2));
+  }
+
+  @Test
+  void givenPlayedBoards_trackedCardsMatchARecount() {
+    for (long seed = 0; seed < 50; seed++) {
+      SchnapsenBoard board = new SchnapsenBoard(seed, 1);
+      Random random = new Random(seed);
+      while (!board.isGameOver()) {
+        int played = 0;
+        int trickPoints = 0;
+        for (List<PlayingCard[]> tricks : List.of(board.getPlayer0Tricks(), board.getPlayer1Tricks())) {
+          for (PlayingCard[] trick : tricks) {
+            for (PlayingCard card : trick) {
+              played |= SchnapsenBoard.bit(SchnapsenBoard.indexOf(card));
+              trickPoints += card.getCardValue();
+            }
+          }
+        }
+        assertEquals(120 - trickPoints, board.getPointsInPlay());
+
+        for (int playerId = 0; playerId < 2; playerId++) {
+          int shown = board.getShownCards(playerId);
+          assertEquals(shown, shown & board.hand(playerId));
+          int seen = board.hand(playerId) | played | board.getShownCards(1 - playerId);
+          if (board.getLeadingCard() != null) {
+            seen |= SchnapsenBoard.bit(SchnapsenBoard.indexOf(board.getLeadingCard()));
+          }
+          if (board.playingCardsLeftInPile() != 0) {
+            seen |= SchnapsenBoard.bit(SchnapsenBoard.indexOf(board.getTrumpCard()));
+          }
+          assertEquals(SchnapsenBoard.ALL_CARDS & ~seen, board.getUnseenCards(playerId));
+          assertEquals(0, board.getOutstandingTrumps(playerId) & (board.hand(playerId) | played));
+
+          SchnapsenBoard view = new SchnapsenBoard(board);
+          view.hideInformation(playerId);
+          assertEquals(board.getUnseenCards(playerId), view.getUnseenCards(playerId));
+        }
+
+        List<SchnapsenAction> actions = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+        board.apply(actions.get(random.nextInt(actions.size())));
+      }
+    }
+  }
+
+  @Test
+  void givenDeclaredMarriage_opponentHasSeenBothCards() {
+    long seed = 0;
+    while (new SchnapsenBoard(seed, 1).getDeclarableMarriages() == 0) {
+      seed++;
+    }
+    SchnapsenBoard board = new SchnapsenBoard(seed, 1);
+    int playerId = board.getPlayerTurnId();
+    int suit = Integer.numberOfTrailingZeros(board.getDeclarableMarriages());
+    SchnapsenAction.of(board.getTrumpSuit(), playerId, SchnapsenAction.MARRIAGE + suit).doAction(board);
+    int marriage = SchnapsenBoard.bit(suit * 5 + 1) | SchnapsenBoard.bit(suit * 5 + 2);
+    assertEquals(marriage, board.getShownCards(playerId));
+    assertEquals(0, board.getUnseenCards(1 - playerId) & marriage);
+
+    SchnapsenBoard view = new SchnapsenBoard(board);
+    view.hideInformation(1 - playerId);
+    assertEquals(marriage, view.getShownCards(playerId));
+  }
+
+  @Test
+  void givenPossibleActions_trustedActionsMatchValidatedActions() {
+    boolean verify = SchnapsenBoard.isVerifyTrusted();
+    SchnapsenBoard.setVerifyTrusted(true);
+    try {
+      for (long seed = 0; seed < 50; seed++) {
+        SchnapsenBoard trusted = new SchnapsenBoard(seed, 2);
+        SchnapsenBoard validated = new SchnapsenBoard(seed, 2);
+        Random random = new Random(seed);
+        int plies = 0;
+        while (!validated.isGameOver()) {
+          List<SchnapsenAction> actions = new ArrayList<>(SchnapsenAction.getPossibleActions(validated));
+          SchnapsenAction action = actions.get(random.nextInt(actions.size()));
+          SchnapsenBoard before = new SchnapsenBoard(trusted);
+          trusted.applyTrusted(action);
+          action.doAction(validated);
+          plies++;
+          assertEquals(validated, trusted);
+          assertEquals(validated.getZobristKey(), trusted.getZobristKey());
+          assertEquals(validated.getShownCards(0), trusted.getShownCards(0));
+          assertEquals(validated.getShownCards(1), trusted.getShownCards(1));
+          assertEquals(SchnapsenAction.getPossibleActions(validated), SchnapsenAction.getPossibleActions(trusted));
+          if (plies % 7 == 0) {
+            trusted.undo();
+            assertEquals(before, trusted);
+            action.doActionTrusted(trusted);
+            assertEquals(validated, trusted);
+          }
+        }
+      }
+
+      SchnapsenBoard board = new SchnapsenBoard(3L, 1);
+      int foreignCard = Integer.numberOfTrailingZeros(board.getUnseenCards(board.getPlayerTurnId()) & SchnapsenBoard.ALL_CARDS);
+      assertThrows(IllegalStateException.class, () -> board.doTrustedAction(foreignCard));
+    } finally {
+      SchnapsenBoard.setVerifyTrusted(verify);
+    }
+  }
+
+  @Test
+  void givenPendingMarriage_canReach66CountsItOnce() {
+    //player 0 declared hearts without points, 29 points are in play, so at most 0 + 20 + 29 points are reachable
+    SchnapsenBoard board = SchnapsenBoard.fromNotation(
+        "QHKHJHJS QSJDQD10C - ASAH10S10HKSAD10DKDACJCKCQC QS - KH -/- 0/91/20/0 - - 1/0 7/7/0/0/1 0/0");
+    assertEquals(29, board.getPointsInPlay());
+    assertFalse(board.canReach66(0));
+    assertTrue(board.canReach66(1));
+
+    //the same hearts marriage not declared yet is still counted: 17 + 29 + 20 points
+    SchnapsenBoard undeclared = SchnapsenBoard.fromNotation(
+        "QHKHJHJS QSJDQD10C - ASAH10S10HKSAD10DKDACJCKCQC QS - - -/- 17/91/0/0 - - 1/0 7/7/0/0/1 0/0");
+    assertTrue(undeclared.canReach66(0));
+
+    //at the first lead of a round every point is still in play
+    for (long seed = 0; seed < 100; seed++) {
+      SchnapsenBoard first = new SchnapsenBoard(seed, 1);
+      int marriages = first.getDeclarableMarriages();
+      if (marriages != 0) {
+        SchnapsenAction.of(first.getTrumpSuit(), first.getPlayerTurnId(),
+            SchnapsenAction.MARRIAGE + Integer.numberOfTrailingZeros(marriages)).doAction(first);
+        assertTrue(first.canReach66(first.getPlayerTurnId()));
+      }
+    }
+  }
+
+  private SchnapsenBoard createBoardWithTricks(List<PlayingCard[]> player0Tricks) {
+    List<PlayingCard> hand0 = List.of(PlayingCard.of(SchnapsenBoard.CardName.AceOfSpades), PlayingCard.of(SchnapsenBoard.CardName.TenOfSpades));
+    List<PlayingCard> hand1 = List.of(PlayingCard.of(SchnapsenBoard.CardName.AceOfClubs), PlayingCard.of(SchnapsenBoard.CardName.TenOfClubs));
+    return new SchnapsenBoard(hand0, hand1, new LinkedList<>(), player0Tricks, List.of(), 0, 0, new Random(0),
+            0, 0, 7, 7, 27, 0, -1, 0, false, null, PlayingCard.of(SchnapsenBoard.CardName.QueenOfClubs),
+            SchnapsenBoard.CardSuit.CLUBS, null, 1, 0, 0, List.of(), List.of(), null);
+  }
+
   @Test
   void testSchnapsenParsingRobustness() {
     // Test malformed string fallback
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.board;
+
+import game.action.SchnapsenAction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuitPermutationTest {
+
+  @Test
+  void givenPermutedBoards_canonicalBoardsAreEqual() {
+    for (long seed = 0; seed < 30; seed++) {
+      SchnapsenBoard board = new SchnapsenBoard(seed, 1);
+      Random random = new Random(seed);
+      while (!board.isGameOver()) {
+        SchnapsenBoard canonical = SuitPermutation.canonical(board).apply(board);
+        for (int[] suitMap : permutationsKeeping(board.trumpSuit())) {
+          SchnapsenBoard permuted = board.permuteSuits(suitMap);
+          assertEquals(canonical, SuitPermutation.canonical(permuted).apply(permuted));
+
+          SchnapsenBoard view = new SchnapsenBoard(permuted);
+          view.hideInformation(view.getPlayerTurnId());
+          SchnapsenBoard hidden = new SchnapsenBoard(board);
+          hidden.hideInformation(hidden.getPlayerTurnId());
+          assertEquals(SuitPermutation.canonical(hidden).apply(hidden), SuitPermutation.canonical(view).apply(view));
+        }
+
+        List<SchnapsenAction> actions = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+        board.apply(actions.get(random.nextInt(actions.size())));
+      }
+    }
+  }
+
+  @Test
+  void givenCanonicalBoard_actionsMapBackToTheActionsOfTheBoard() {
+    for (long seed = 0; seed < 30; seed++) {
+      SchnapsenBoard board = new SchnapsenBoard(seed, 1);
+      Random random = new Random(seed);
+      while (!board.isGameOver()) {
+        SuitPermutation permutation = SuitPermutation.canonical(board);
+        SchnapsenBoard canonical = permutation.apply(board);
+        assertEquals(board, permutation.inverse().apply(canonical));
+
+        Set<SchnapsenAction> mapped = new HashSet<>();
+        for (SchnapsenAction action : SchnapsenAction.getPossibleActions(canonical)) {
+          mapped.add(permutation.inverse().map(action, board));
+        }
+        assertEquals(SchnapsenAction.getPossibleActions(board), mapped);
+
+        List<SchnapsenAction> actions = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+        board.apply(actions.get(random.nextInt(actions.size())));
+      }
+    }
+  }
+
+  @Test
+  void givenCanonicalBoard_itIsItsOwnRepresentative() {
+    SchnapsenBoard board = new SchnapsenBoard(6L, 1);
+    SchnapsenBoard canonical = SuitPermutation.canonical(board).apply(board);
+    assertTrue(SuitPermutation.canonical(canonical).isIdentity());
+    assertEquals(SuitPermutation.identity(), SuitPermutation.identity().inverse());
+    assertEquals(board.getTrumpSuit(), canonical.getTrumpSuit());
+  }
+
+  private static List<int[]> permutationsKeeping(int trumpSuit) {
+    List<int[]> permutations = new ArrayList<>();
+    for (int a = 0; a < 4; a++) {
+      for (int b = 0; b < 4; b++) {
+        for (int c = 0; c < 4; c++) {
+          for (int d = 0; d < 4; d++) {
+            int[] suitMap = {a, b, c, d};
+            if (a != b && a != c && a != d && b != c && b != d && c != d && suitMap[trumpSuit] == trumpSuit) {
+              permutations.add(suitMap);
+            }
+          }
+        }
+      }
+    }
+    return permutations;
+  }
+}
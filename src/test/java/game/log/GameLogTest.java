@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Bina Philipp C.
+ * Licensed under the GNU GPL v3.0.
+ * Part of the project: Schnapsen
+ */
+
+package game.log;
+
+import game.action.SchnapsenAction;
+import game.board.SchnapsenBoard;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLogTest {
+
+  @Test
+  void givenWrittenGames_readerReplaysThemToTheSameBoards() throws IOException {
+    Path path = Files.createTempFile("games", ".sgl");
+    try {
+      List<SchnapsenBoard> finalBoards = new ArrayList<>();
+      List<List<SchnapsenAction>> games = new ArrayList<>();
+      //the games are written by two writers, the second one appends to the file of the first one
+      for (int part = 0; part < 2; part++) {
+        try (GameLogWriter writer = new GameLogWriter(path)) {
+          for (long seed = part * 10; seed < part * 10 + 10; seed++) {
+            List<SchnapsenAction> actions = new ArrayList<>();
+            SchnapsenBoard board = playRandomGame(seed, actions);
+            writer.write(seed, 2, actions);
+            finalBoards.add(board);
+            games.add(actions);
+          }
+        }
+      }
+
+      GameLogReader reader = new GameLogReader(path);
+      List<Long> seeds = new ArrayList<>();
+      long count = reader.forEach(game -> {
+        int i = seeds.size();
+        seeds.add(game.getSeed());
+        assertEquals(2, game.getBummerlMax());
+        assertEquals(games.get(i).size(), game.getActionCount());
+
+        List<SchnapsenAction> replayed = new ArrayList<>();
+        SchnapsenBoard board = game.replay((b, action) -> replayed.add(action));
+        assertEquals(games.get(i), replayed);
+        assertEquals(finalBoards.get(i), board);
+        assertTrue(board.isGameOver());
+      });
+
+      assertEquals(20, count);
+      for (int i = 0; i < 20; i++) {
+        assertEquals((long) i, (long) seeds.get(i));
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  void givenSmallWindows_gamesAcrossWindowBordersAreRead() throws IOException {
+    Path path = Files.createTempFile("games", ".sgl");
+    try {
+      List<SchnapsenBoard> finalBoards = new ArrayList<>();
+      try (GameLogWriter writer = new GameLogWriter(path)) {
+        for (long seed = 0; seed < 30; seed++) {
+          List<SchnapsenAction> actions = new ArrayList<>();
+          finalBoards.add(playRandomGame(seed, actions));
+          writer.write(seed, 2, actions);
+        }
+      }
+      assertTrue(Files.size(path) > 4 * 256);
+
+      GameLogReader reader = new GameLogReader(path, 8);
+      List<SchnapsenBoard> replayed = new ArrayList<>();
+      assertEquals(30, reader.forEach(game -> replayed.add(game.replay())));
+      assertEquals(finalBoards, replayed);
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  void givenCorruptActionCount_readerThrowsException() throws IOException {
+    Path path = Files.createTempFile("games", ".sgl");
+    try {
+      ByteBuffer record = ByteBuffer.allocate(GameLogWriter.MAGIC.length + GameLogWriter.RECORD_HEADER_BYTES + 4);
+      record.put(GameLogWriter.MAGIC).putLong(1).putShort((short) 1).putInt(Integer.MAX_VALUE);
+      Files.write(path, record.array());
+
+      GameLogReader reader = new GameLogReader(path);
+      assertThrows(IllegalStateException.class, () -> reader.forEach(game -> { }));
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  void givenInvalidActionIndex_nothingOfTheGameIsWritten() throws IOException {
+    Path path = Files.createTempFile("games", ".sgl");
+    try {
+      List<SchnapsenAction> actions = new ArrayList<>();
+      SchnapsenBoard board = playRandomGame(5, actions);
+      try (GameLogWriter writer = new GameLogWriter(path)) {
+        byte[] invalid = {1, 0, 16, 2};
+        assertThrows(IllegalArgumentException.class, () -> writer.write(4, 2, invalid, invalid.length));
+        writer.write(5, 2, actions);
+      }
+
+      GameLogReader reader = new GameLogReader(path);
+      List<Long> seeds = new ArrayList<>();
+      assertEquals(1, reader.forEach(game -> {
+        seeds.add(game.getSeed());
+        assertEquals(board, game.replay());
+      }));
+      assertEquals(List.of(5L), seeds);
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  void givenOtherFile_readerThrowsException() throws IOException {
+    Path path = Files.createTempFile("games", ".txt");
+    try {
+      Files.writeString(path, "not a game log");
+      assertThrows(IOException.class, () -> new GameLogReader(path));
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  private SchnapsenBoard playRandomGame(long seed, List<SchnapsenAction> actions) {
+    SchnapsenBoard board = new SchnapsenBoard(seed, 2);
+    Random random = new Random(seed);
+    while (!board.isGameOver()) {
+      List<SchnapsenAction> possible = new ArrayList<>(SchnapsenAction.getPossibleActions(board));
+      SchnapsenAction action = possible.get(random.nextInt(possible.size()));
+      actions.add(action);
+      action.doAction(board);
+    }
+    return board;
+  }
+}